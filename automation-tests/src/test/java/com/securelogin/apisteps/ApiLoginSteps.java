@@ -0,0 +1,234 @@
+package com.securelogin.apisteps;
+
+import com.securelogin.backend.EmbeddedLoginServer;
+import com.securelogin.utils.ApiClient;
+import com.securelogin.utils.ApiClient.ApiResponse;
+import com.securelogin.utils.ConfigReader;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.junit.Assert;
+
+/**
+ * API-tier Step Definitions for Login functionality
+ * Maps the same Gherkin steps as the browser steps onto direct calls to
+ * POST /api/auth/login, so server-side validation scenarios tagged @api
+ * run without launching a browser
+ * 
+ * Steps that check for messages or field errors send the entered
+ * credentials first if they have not been submitted yet, mirroring the
+ * frontend's real-time validation with the server's validation
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ApiLoginSteps {
+    
+    private static String apiUrl;
+    
+    private final ApiClient apiClient = new ApiClient(apiUrl);
+    private String username;
+    private String password;
+    private ApiResponse response;
+    
+    /**
+     * Executes once before all API scenarios
+     * Starts the in-JVM backend when api.url selects it
+     */
+    @BeforeAll
+    public static void startBackend() {
+        apiUrl = EmbeddedLoginServer.startConfigured(ConfigReader.getInstance());
+        System.out.println("✓ Backend API: " + apiUrl);
+    }
+    
+    // ==================== GIVEN STEPS ====================
+    
+    /**
+     * Step: Given the user is on the login page
+     * Starts with empty credentials and no response
+     */
+    @Given("the user is on the login page")
+    public void theUserIsOnTheLoginPage() {
+        username = "";
+        password = "";
+        response = null;
+        System.out.println("→ API session started");
+    }
+    
+    // ==================== WHEN STEPS ====================
+    
+    /**
+     * Step: When the user enters username "{string}"
+     * 
+     * @param username Username to send
+     */
+    @When("the user enters username {string}")
+    public void theUserEntersUsername(String username) {
+        this.username = username;
+        response = null;
+    }
+    
+    /**
+     * Step: When the user enters password "{string}"
+     * 
+     * @param password Password to send
+     */
+    @When("the user enters password {string}")
+    public void theUserEntersPassword(String password) {
+        this.password = password;
+        response = null;
+    }
+    
+    /**
+     * Step: When the user enters a username with {int} characters
+     * 
+     * @param length Number of characters
+     */
+    @When("the user enters a username with {int} characters")
+    public void theUserEntersAUsernameWithCharacters(int length) {
+        theUserEntersUsername("a".repeat(length));
+    }
+    
+    /**
+     * Step: When the user enters a password with {int} characters
+     * 
+     * @param length Number of characters
+     */
+    @When("the user enters a password with {int} characters")
+    public void theUserEntersAPasswordWithCharacters(int length) {
+        theUserEntersPassword("a".repeat(length));
+    }
+    
+    /**
+     * Step: When the user clicks the login button
+     * Sends the login request
+     */
+    @When("the user clicks the login button")
+    public void theUserClicksTheLoginButton() {
+        submit();
+    }
+    
+    /**
+     * Step: When the user attempts to click the login button
+     * Sends the login request
+     */
+    @When("the user attempts to click the login button")
+    public void theUserAttemptsToClickTheLoginButton() {
+        submit();
+    }
+    
+    // ==================== THEN STEPS ====================
+    
+    /**
+     * Step: Then the user should be redirected to the dashboard
+     * Verifies the login succeeded
+     */
+    @Then("the user should be redirected to the dashboard")
+    public void theUserShouldBeRedirectedToTheDashboard() {
+        ApiResponse result = currentResponse();
+        Assert.assertEquals("Login should succeed: " + result, 200, result.getStatus());
+        Assert.assertTrue("Response should report success: " + result, result.isSuccess());
+    }
+    
+    /**
+     * Step: Then the welcome message should display "{string}"
+     * Verifies the dashboard greeting built from the returned user
+     * 
+     * @param expectedText Expected text in welcome message
+     */
+    @Then("the welcome message should display {string}")
+    public void theWelcomeMessageShouldDisplay(String expectedText) {
+        String welcome = "Welcome back, " + currentResponse().getUsername() + "!";
+        Assert.assertTrue(
+            "Welcome message should contain: " + expectedText + " but was: " + welcome,
+            welcome.contains(expectedText)
+        );
+    }
+    
+    /**
+     * Step: Then an error message should be displayed
+     * Verifies the login was rejected with a message
+     */
+    @Then("an error message should be displayed")
+    public void anErrorMessageShouldBeDisplayed() {
+        ApiResponse result = currentResponse();
+        Assert.assertFalse("Login should be rejected: " + result, result.isSuccess());
+        Assert.assertFalse("Error message should be present: " + result, result.getMessage().isEmpty());
+    }
+    
+    /**
+     * Step: Then the error message should contain "{string}"
+     * 
+     * @param expectedText Expected text in error message
+     */
+    @Then("the error message should contain {string}")
+    public void theErrorMessageShouldContain(String expectedText) {
+        String actualMessage = currentResponse().getMessage();
+        Assert.assertTrue(
+            "Error message should contain '" + expectedText + "' but was: " + actualMessage,
+            actualMessage.contains(expectedText)
+        );
+    }
+    
+    /**
+     * Step: Then the user should remain on the login page
+     * Verifies the login did not succeed
+     */
+    @Then("the user should remain on the login page")
+    public void theUserShouldRemainOnTheLoginPage() {
+        ApiResponse result = currentResponse();
+        Assert.assertFalse("Login should not succeed: " + result, result.isSuccess());
+    }
+    
+    /**
+     * Step: Then a validation error should be displayed for username field
+     */
+    @Then("a validation error should be displayed for username field")
+    public void aValidationErrorShouldBeDisplayedForUsernameField() {
+        assertFieldError("username");
+    }
+    
+    /**
+     * Step: Then a validation error should be displayed for password field
+     */
+    @Then("a validation error should be displayed for password field")
+    public void aValidationErrorShouldBeDisplayedForPasswordField() {
+        assertFieldError("password");
+    }
+    
+    // ==================== HELPER METHODS ====================
+    
+    /**
+     * Sends the entered credentials
+     */
+    private void submit() {
+        response = apiClient.login(username, password);
+        System.out.println("→ POST /api/auth/login: " + response.getStatus() + " " + response.getMessage());
+    }
+    
+    /**
+     * Gets the response for the entered credentials, sending them if needed
+     * 
+     * @return API response
+     */
+    private ApiResponse currentResponse() {
+        if (response == null) {
+            submit();
+        }
+        return response;
+    }
+    
+    /**
+     * Verifies the server rejected the input with an error naming the field
+     * 
+     * @param field Field name as used in the server's messages
+     */
+    private void assertFieldError(String field) {
+        ApiResponse result = currentResponse();
+        Assert.assertEquals("Request should fail validation: " + result, 400, result.getStatus());
+        boolean mentionsField = result.getErrors().stream()
+            .anyMatch(error -> error.toLowerCase().contains(field));
+        Assert.assertTrue("Validation error should mention " + field + ": " + result, mentionsField);
+    }
+}
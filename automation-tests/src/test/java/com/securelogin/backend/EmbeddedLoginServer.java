@@ -0,0 +1,184 @@
+package com.securelogin.backend;
+
+import com.securelogin.utils.ConfigReader;
+import com.securelogin.utils.ThreadSupport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Embedded Login Server
+ * In-JVM stand-in for the Node backend (backend/server.js) so the API
+ * and UI suites can run without npm. Serves /api/health, /api/auth/login
+ * and /api/users from LoginService on the JDK HTTP server, handling each
+ * request on its own virtual thread when the JVM supports them
+ * 
+ * Selected with -Dapi.url=embedded (port 5000, the URL the frontend calls)
+ * or -Dapi.url=embedded:0 (random free port, API tier only) and started
+ * by startConfigured() from the suites' @BeforeAll hooks
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class EmbeddedLoginServer {
+    
+    public static final int DEFAULT_PORT = 5000;
+    public static final String ALLOWED_ORIGIN = "http://localhost:3000";
+    
+    private static EmbeddedLoginServer shared;
+    
+    private final LoginService service = new LoginService();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    /**
+     * Constructor binds the server to localhost without starting it
+     * 
+     * @param port Port to listen on, 0 for a random free port
+     * @throws IOException if the port cannot be bound
+     */
+    public EmbeddedLoginServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        executor = ThreadSupport.newThreadPerTaskExecutor("embedded-backend");
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+    
+    /**
+     * Starts the shared server if api.url selects the embedded backend
+     * 
+     * @param config Configuration of this run
+     * @return URL the API clients call, the embedded server's or api.url
+     */
+    public static String startConfigured(ConfigReader config) {
+        return config.isEmbeddedApi() ? startShared(config.getEmbeddedApiPort()).getUrl() : config.getApiUrl();
+    }
+    
+    /**
+     * Gets the shared server, starting it on first use
+     * The server lives until the JVM exits
+     * 
+     * @param port Port to listen on, 0 for a random free port
+     * @return Running shared server
+     */
+    public static synchronized EmbeddedLoginServer startShared(int port) {
+        if (shared == null) {
+            try {
+                shared = new EmbeddedLoginServer(port);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot start embedded backend on port " + port
+                    + " (is the Node backend already running?)", e);
+            }
+            shared.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "embedded-backend-shutdown"));
+            System.out.println("✓ Embedded backend running at " + shared.getUrl()
+                + (ThreadSupport.virtualThreadsAvailable() ? " (virtual threads)" : ""));
+        }
+        return shared;
+    }
+    
+    /**
+     * Starts accepting requests
+     */
+    public void start() {
+        server.start();
+    }
+    
+    /**
+     * Stops the server and its request threads
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Gets the base URL of the server
+     * 
+     * @return Base URL, e.g. http://localhost:5000
+     */
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+    
+    /**
+     * Routes a request to the matching LoginService endpoint
+     * 
+     * @param exchange HTTP exchange
+     * @throws IOException if the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            
+            if ("OPTIONS".equals(method)) {
+                // CORS preflight from the frontend
+                addCorsHeaders(exchange);
+                exchange.getResponseHeaders().set("Access-Control-Allow-Methods", "GET,HEAD,PUT,PATCH,POST,DELETE");
+                String requested = exchange.getRequestHeaders().getFirst("Access-Control-Request-Headers");
+                if (requested != null) {
+                    exchange.getResponseHeaders().set("Access-Control-Allow-Headers", requested);
+                }
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            
+            LoginService.Result result;
+            if ("POST".equals(method) && "/api/auth/login".equals(path)) {
+                result = login(exchange);
+            } else if ("GET".equals(method) && "/api/health".equals(path)) {
+                result = service.health();
+            } else if ("GET".equals(method) && "/api/users".equals(path)) {
+                result = service.users();
+            } else {
+                result = service.notFound();
+            }
+            send(exchange, result);
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    /**
+     * Reads the request body and runs the login checks
+     * 
+     * @param exchange HTTP exchange
+     * @return Login result
+     * @throws IOException if the body cannot be read
+     */
+    private LoginService.Result login(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return service.login(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+    
+    /**
+     * Writes a result as a JSON response
+     * 
+     * @param exchange HTTP exchange
+     * @param result Result to send
+     * @throws IOException if the response cannot be written
+     */
+    private void send(HttpExchange exchange, LoginService.Result result) throws IOException {
+        byte[] bytes = result.toJson().getBytes(StandardCharsets.UTF_8);
+        addCorsHeaders(exchange);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(result.getStatus(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    private static void addCorsHeaders(HttpExchange exchange) {
+        exchange.getResponseHeaders().set("Access-Control-Allow-Origin", ALLOWED_ORIGIN);
+        exchange.getResponseHeaders().set("Access-Control-Allow-Credentials", "true");
+        exchange.getResponseHeaders().set("Vary", "Origin");
+    }
+}
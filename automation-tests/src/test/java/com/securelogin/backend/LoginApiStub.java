@@ -0,0 +1,203 @@
+package com.securelogin.backend;
+
+import com.securelogin.utils.ThreadSupport;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Login API Stub
+ * Answers the browser's calls to /api/auth/login from LoginService through
+ * the DevTools Fetch domain, so UI scenarios never leave the browser.
+ * Only requests matching the login path are paused; documents, scripts
+ * and styles load without a DevTools round trip. An injected latency
+ * delays every stubbed response to make slow-network behaviour (loading
+ * spinner, button text) deterministic; responses are sent from a
+ * scheduler thread so the DevTools event thread is never blocked.
+ * Closing the stub removes its listener, so a reused browser session
+ * does not collect one dead listener per scenario
+ * 
+ * Requires a Chromium-based browser (Chrome or Edge)
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.2
+ */
+public class LoginApiStub implements AutoCloseable {
+    
+    public static final String LOGIN_API_PATH = "/api/auth/login";
+    
+    private static final String URL_PATTERN = "*" + LOGIN_API_PATH + "*";
+    private static final Event<Map<String, Object>> REQUEST_PAUSED =
+        new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+    private static final AtomicLong STUBBED_REQUESTS = new AtomicLong();
+    
+    private final LoginService service = new LoginService();
+    private final DevTools devTools;
+    private final ScheduledExecutorService responder =
+        Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonThreadFactory("login-api-stub"));
+    private volatile Duration latency;
+    private volatile boolean closed;
+    
+    /**
+     * Constructor starts intercepting the driver's login requests
+     * 
+     * @param driver Chromium-based driver
+     * @param latency Delay before each stubbed response
+     */
+    public LoginApiStub(WebDriver driver, Duration latency) {
+        if (!(driver instanceof HasDevTools)) {
+            throw new IllegalArgumentException("Login API stubbing needs a Chromium-based browser, not "
+                + driver.getClass().getSimpleName());
+        }
+        this.latency = latency;
+        this.devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(REQUEST_PAUSED, this::onRequestPaused);
+        Map<String, Object> pattern = new LinkedHashMap<>();
+        pattern.put("urlPattern", URL_PATTERN);
+        pattern.put("requestStage", "Request");
+        devTools.send(new Command<>("Fetch.enable",
+            Collections.singletonMap("patterns", Collections.singletonList(pattern))));
+    }
+    
+    /**
+     * Changes the delay applied to the following stubbed responses
+     * 
+     * @param latency Delay before each stubbed response
+     */
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+    
+    /**
+     * Gets the delay applied to stubbed responses
+     * 
+     * @return Latency
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+    
+    /**
+     * Gets the number of requests answered by stubs in this JVM
+     * 
+     * @return Stubbed request count
+     */
+    public static long getStubbedRequestCount() {
+        return STUBBED_REQUESTS.get();
+    }
+    
+    /**
+     * Stops intercepting and removes the request listener; later requests
+     * go to the network again
+     */
+    @Override
+    public void close() {
+        closed = true;
+        responder.shutdownNow();
+        try {
+            devTools.send(new Command<>("Fetch.disable", Collections.emptyMap()));
+        } catch (WebDriverException e) {
+            // Browser already gone
+        }
+        devTools.clearListeners();
+    }
+    
+    /**
+     * Schedules the answer to a paused login request
+     * Runs on the DevTools event thread, so it only hands the request over
+     * 
+     * @param event Fetch.requestPaused parameters
+     */
+    private void onRequestPaused(Map<String, Object> event) {
+        if (closed) {
+            return;
+        }
+        long delayMs = "POST".equals(method(event)) ? latency.toMillis() : 0;
+        responder.schedule(() -> respond(event), delayMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Answers login calls and CORS preflights, lets every other request through
+     * 
+     * @param event Fetch.requestPaused parameters
+     */
+    @SuppressWarnings("unchecked")
+    private void respond(Map<String, Object> event) {
+        Object requestId = event.get("requestId");
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        try {
+            switch (method(event)) {
+                case "OPTIONS":
+                    fulfill(requestId, 204, "",
+                        "Access-Control-Allow-Methods", "GET,HEAD,PUT,PATCH,POST,DELETE",
+                        "Access-Control-Allow-Headers", "content-type");
+                    break;
+                case "POST":
+                    Object body = request.get("postData");
+                    LoginService.Result result = service.login(body == null ? "" : body.toString());
+                    STUBBED_REQUESTS.incrementAndGet();
+                    fulfill(requestId, result.getStatus(), result.toJson(),
+                        "Content-Type", "application/json; charset=utf-8");
+                    break;
+                default:
+                    devTools.send(new Command<>("Fetch.continueRequest",
+                        Collections.singletonMap("requestId", requestId)));
+            }
+        } catch (WebDriverException e) {
+            // Page navigated away or browser closed while the response was delayed
+        }
+    }
+    
+    /**
+     * Sends a stubbed response with the CORS headers the frontend needs
+     * 
+     * @param requestId Paused request
+     * @param status HTTP status
+     * @param body Response body
+     * @param headers Extra header names and values
+     */
+    private void fulfill(Object requestId, int status, String body, String... headers) {
+        List<String> pairs = new ArrayList<>(Arrays.asList(
+            "Access-Control-Allow-Origin", EmbeddedLoginServer.ALLOWED_ORIGIN,
+            "Access-Control-Allow-Credentials", "true",
+            "Vary", "Origin"));
+        pairs.addAll(Arrays.asList(headers));
+        List<Map<String, Object>> responseHeaders = new ArrayList<>();
+        for (int i = 0; i < pairs.size(); i += 2) {
+            Map<String, Object> header = new LinkedHashMap<>();
+            header.put("name", pairs.get(i));
+            header.put("value", pairs.get(i + 1));
+            responseHeaders.add(header);
+        }
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("requestId", requestId);
+        params.put("responseCode", status);
+        params.put("responseHeaders", responseHeaders);
+        params.put("body", Base64.getEncoder().encodeToString(body.getBytes(StandardCharsets.UTF_8)));
+        devTools.send(new Command<>("Fetch.fulfillRequest", params));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static String method(Map<String, Object> event) {
+        return String.valueOf(((Map<String, Object>) event.get("request")).get("method"));
+    }
+}
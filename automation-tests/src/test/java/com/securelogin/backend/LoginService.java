@@ -0,0 +1,249 @@
+package com.securelogin.backend;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Login Service
+ * Java copy of the rules in backend/server.js: the same mock users,
+ * express-validator chain, SQL-injection and XSS checks, status codes
+ * and messages. Keep the two in sync when the Node backend changes
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class LoginService {
+    
+    // Same patterns as server.js
+    private static final Pattern USERNAME_ALLOWED = Pattern.compile("^[^<>]*$");
+    private static final Pattern USERNAME_SQL = Pattern.compile(
+        "(\\bOR\\b|\\bAND\\b|--|#|/\\*|\\*/|xp_|sp_|'|\")", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PASSWORD_SCRIPT = Pattern.compile(
+        "<script|javascript:|onerror=|onload=", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SQL_INJECTION = Pattern.compile(
+        "(\\bOR\\b.*=.*|'.*OR.*'.*=.*'|\".*OR.*\".*=.*\"|--)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern XSS = Pattern.compile(
+        "<script|javascript:|onerror=|onload=|<img|<iframe", Pattern.CASE_INSENSITIVE);
+        
+    private static final Json JSON = new Json();
+    
+    private static final List<Map<String, Object>> USERS = Arrays.asList(
+        user(1, "admin", "admin123", "admin@example.com", "Administrator"),
+        user(2, "testuser", "test1234", "test@example.com", "User"),
+        user(3, "john.doe", "john@123", "john.doe@example.com", "User")
+    );
+    
+    /**
+     * Result of a request: HTTP status and JSON body
+     */
+    public static final class Result {
+        
+        private final int status;
+        private final Map<String, Object> body;
+        
+        Result(int status, Map<String, Object> body) {
+            this.status = status;
+            this.body = body;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public Map<String, Object> getBody() {
+            return body;
+        }
+        
+        /**
+         * Serializes the body as single-line JSON. Unlike Express res.json()
+         * it puts a space after each colon, so compare parsed bodies, not text
+         * 
+         * @return JSON text
+         */
+        public String toJson() {
+            StringBuilder json = new StringBuilder();
+            try (JsonOutput output = JSON.newOutput(json)) {
+                output.setPrettyPrint(false).write(body);
+            }
+            return json.toString();
+        }
+    }
+    
+    /**
+     * GET /api/health
+     * 
+     * @return Health status
+     */
+    public Result health() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "OK");
+        body.put("message", "Server is running");
+        body.put("timestamp", Instant.now().toString());
+        return new Result(200, body);
+    }
+    
+    /**
+     * GET /api/users
+     * 
+     * @return Users without passwords
+     */
+    public Result users() {
+        List<Map<String, Object>> users = new ArrayList<>();
+        for (Map<String, Object> user : USERS) {
+            users.add(withoutPassword(user));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("users", users);
+        return new Result(200, body);
+    }
+    
+    /**
+     * POST /api/auth/login with a raw JSON request body
+     * Malformed JSON gets the same 500 response as the Node backend
+     * 
+     * @param requestBody JSON body, e.g. {"username":"admin","password":"admin123"}
+     * @return Login result
+     */
+    @SuppressWarnings("unchecked")
+    public Result login(String requestBody) {
+        Map<String, Object> credentials;
+        try {
+            credentials = requestBody == null || requestBody.isBlank()
+                ? null
+                : JSON.toType(requestBody, Map.class);
+        } catch (JsonException | ClassCastException e) {
+            return internalError();
+        }
+        if (credentials == null) {
+            credentials = Collections.emptyMap();
+        }
+        return login(credentials.get("username"), credentials.get("password"));
+    }
+    
+    /**
+     * POST /api/auth/login
+     * 
+     * @param rawUsername Username from the request body (may be null)
+     * @param rawPassword Password from the request body (may be null)
+     * @return Login result
+     */
+    public Result login(Object rawUsername, Object rawPassword) {
+        // express-validator: trim() sanitizes the username before the checks run
+        String username = rawUsername == null ? "" : rawUsername.toString().trim();
+        String password = rawPassword == null ? "" : rawPassword.toString();
+        
+        List<String> errors = new ArrayList<>();
+        if (username.isEmpty()) {
+            errors.add("Username is required");
+        }
+        if (username.length() < 1 || username.length() > 255) {
+            errors.add("Username must be between 1 and 255 characters");
+        }
+        if (!USERNAME_ALLOWED.matcher(username).matches()) {
+            errors.add("Username contains invalid characters");
+        }
+        if (USERNAME_SQL.matcher(username).find()) {
+            errors.add("Invalid characters detected in username");
+        }
+        if (password.isEmpty()) {
+            errors.add("Password is required");
+        }
+        if (password.length() < 6 || password.length() > 128) {
+            errors.add("Password must be between 6 and 128 characters");
+        }
+        if (PASSWORD_SCRIPT.matcher(password).find()) {
+            errors.add("Invalid characters detected in password");
+        }
+        if (!errors.isEmpty()) {
+            Map<String, Object> body = failure(errors.get(0));
+            body.put("errors", errors);
+            return new Result(400, body);
+        }
+        
+        if (SQL_INJECTION.matcher(username).find() || SQL_INJECTION.matcher(password).find()) {
+            return new Result(403, failure("Invalid credentials format detected"));
+        }
+        if (XSS.matcher(username).find() || XSS.matcher(password).find()) {
+            return new Result(403, failure("Invalid characters in credentials"));
+        }
+        
+        Map<String, Object> user = findUser(username);
+        if (user == null || !password.equals(user.get("password"))) {
+            return new Result(401, failure("Invalid username or password"));
+        }
+        
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("message", "Login successful");
+        body.put("user", withoutPassword(user));
+        return new Result(200, body);
+    }
+    
+    /**
+     * Response for unknown routes
+     * 
+     * @return 404 result
+     */
+    public Result notFound() {
+        return new Result(404, failure("Endpoint not found"));
+    }
+    
+    /**
+     * Response for requests that cannot be processed, e.g. malformed JSON
+     * 
+     * @return 500 result
+     */
+    public Result internalError() {
+        return new Result(500, failure("Internal server error"));
+    }
+    
+    /**
+     * Finds user by username or email, ignoring case
+     * 
+     * @param identifier Username or email
+     * @return User, or null if not found
+     */
+    private static Map<String, Object> findUser(String identifier) {
+        for (Map<String, Object> user : USERS) {
+            if (identifier.equalsIgnoreCase((String) user.get("username"))
+                    || identifier.equalsIgnoreCase((String) user.get("email"))) {
+                return user;
+            }
+        }
+        return null;
+    }
+    
+    private static Map<String, Object> failure(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("message", message);
+        return body;
+    }
+    
+    private static Map<String, Object> withoutPassword(Map<String, Object> user) {
+        Map<String, Object> copy = new LinkedHashMap<>(user);
+        copy.remove("password");
+        return copy;
+    }
+    
+    private static Map<String, Object> user(int id, String username, String password, String email, String role) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", id);
+        user.put("username", username);
+        user.put("password", password);
+        user.put("email", email);
+        user.put("role", role);
+        return Collections.unmodifiableMap(user);
+    }
+}
@@ -0,0 +1,167 @@
+package com.securelogin.backend;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.json.Json;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Login Service Test
+ * One case per rule of backend/server.js, so a change on either side
+ * that breaks parity fails here
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+class LoginServiceTest {
+    
+    private final LoginService service = new LoginService();
+    
+    // ==================== 400: express-validator chain ====================
+    
+    @Test
+    void missingFieldsReportEveryValidationError() {
+        LoginService.Result result = service.login("{}");
+        assertEquals(400, result.getStatus());
+        assertEquals("Username is required", result.getBody().get("message"));
+        assertEquals(List.of(
+            "Username is required",
+            "Username must be between 1 and 255 characters",
+            "Password is required",
+            "Password must be between 6 and 128 characters"), result.getBody().get("errors"));
+    }
+    
+    @Test
+    void blankUsernameIsTrimmedBeforeValidation() {
+        assertRejected("   ", "admin123", 400, "Username is required");
+    }
+    
+    @Test
+    void usernameLongerThan255IsRejected() {
+        assertRejected("a".repeat(256), "admin123", 400, "Username must be between 1 and 255 characters");
+    }
+    
+    @Test
+    void usernameOfExactly255PassesValidation() {
+        assertRejected("a".repeat(255), "admin123", 401, "Invalid username or password");
+    }
+    
+    @Test
+    void angleBracketsInUsernameAreRejected() {
+        assertRejected("<b>admin</b>", "admin123", 400, "Username contains invalid characters");
+    }
+    
+    @Test
+    void sqlCharactersInUsernameAreRejected() {
+        assertRejected("admin' OR '1'='1", "admin123", 400, "Invalid characters detected in username");
+        assertRejected("admin--", "admin123", 400, "Invalid characters detected in username");
+        assertRejected("admin#", "admin123", 400, "Invalid characters detected in username");
+    }
+    
+    @Test
+    void passwordShorterThan6IsRejected() {
+        assertRejected("admin", "12345", 400, "Password must be between 6 and 128 characters");
+    }
+    
+    @Test
+    void passwordLongerThan128IsRejected() {
+        assertRejected("admin", "a".repeat(129), 400, "Password must be between 6 and 128 characters");
+    }
+    
+    @Test
+    void scriptInPasswordIsRejected() {
+        assertRejected("admin", "<script>alert(1)</script>", 400, "Invalid characters detected in password");
+        assertRejected("admin", "javascript:alert(1)", 400, "Invalid characters detected in password");
+    }
+    
+    // ==================== 403: security checks ====================
+    
+    @Test
+    void sqlInjectionInPasswordIsForbidden() {
+        assertRejected("admin", "' OR '1'='1", 403, "Invalid credentials format detected");
+        assertRejected("admin", "secret -- x", 403, "Invalid credentials format detected");
+    }
+    
+    @Test
+    void xssInPasswordIsForbidden() {
+        assertRejected("admin", "<img src=x>", 403, "Invalid characters in credentials");
+        assertRejected("admin", "<iframe src=x>", 403, "Invalid characters in credentials");
+    }
+    
+    @Test
+    void xssInUsernameIsForbidden() {
+        assertRejected("javascript:alert(1)", "admin123", 403, "Invalid characters in credentials");
+    }
+    
+    // ==================== 401 / 200: credentials ====================
+    
+    @Test
+    void unknownUserAndWrongPasswordGetTheSameMessage() {
+        assertRejected("nobody", "admin123", 401, "Invalid username or password");
+        assertRejected("admin", "wrongpass", 401, "Invalid username or password");
+    }
+    
+    @Test
+    void validLoginReturnsTheUserWithoutPassword() {
+        LoginService.Result result = service.login("{\"username\":\"admin\",\"password\":\"admin123\"}");
+        assertEquals(200, result.getStatus());
+        assertEquals("Login successful", result.getBody().get("message"));
+        Map<?, ?> user = (Map<?, ?>) result.getBody().get("user");
+        assertEquals("admin", user.get("username"));
+        assertEquals("Administrator", user.get("role"));
+        assertFalse(user.containsKey("password"));
+    }
+    
+    @Test
+    void usernameIsTrimmedAndMatchedIgnoringCase() {
+        assertEquals(200, service.login("  ADMIN  ", "admin123").getStatus());
+    }
+    
+    @Test
+    void emailLogsInLikeTheUsername() {
+        assertEquals(200, service.login("john.doe@example.com", "john@123").getStatus());
+    }
+    
+    @Test
+    void passwordIsCaseSensitive() {
+        assertEquals(401, service.login("admin", "ADMIN123").getStatus());
+    }
+    
+    // ==================== 500 / 404: error handlers ====================
+    
+    @Test
+    void malformedJsonIsAnInternalError() {
+        LoginService.Result result = service.login("{\"username\": \"admin\",");
+        assertEquals(500, result.getStatus());
+        assertEquals("Internal server error", result.getBody().get("message"));
+    }
+    
+    @Test
+    void unknownRouteIsNotFound() {
+        LoginService.Result result = service.notFound();
+        assertEquals(404, result.getStatus());
+        assertEquals(Map.of("success", false, "message", "Endpoint not found"),
+            new Json().toType(result.toJson(), Map.class));
+    }
+    
+    @Test
+    void userListHasNoPasswords() {
+        List<?> users = (List<?>) service.users().getBody().get("users");
+        assertEquals(3, users.size());
+        for (Object user : users) {
+            assertFalse(((Map<?, ?>) user).containsKey("password"));
+        }
+    }
+    
+    private void assertRejected(String username, String password, int status, String message) {
+        LoginService.Result result = service.login(username, password);
+        assertEquals(status, result.getStatus(), username + " / " + password);
+        assertEquals(message, result.getBody().get("message"), username + " / " + password);
+        assertTrue(Boolean.FALSE.equals(result.getBody().get("success")));
+    }
+}
@@ -0,0 +1,156 @@
+package com.securelogin.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency Histogram
+ * Lock-free, log-linear histogram in the style of HdrHistogram: values
+ * below 128 us are counted exactly, larger values in 64 linear
+ * sub-buckets per power of two (under 1.6% relative error), up to about 2 minutes
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    
+    private static final int LINEAR_LIMIT = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int FIRST_EXPONENT = 7;
+    private static final int MAX_EXPONENT = 26;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - FIRST_EXPONENT + 1) * SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    
+    /**
+     * Records a latency
+     * 
+     * @param nanos Latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+        minMicros.accumulateAndGet(micros, Math::min);
+    }
+    
+    /**
+     * Gets the number of recorded values
+     * 
+     * @return Count
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+    
+    /**
+     * Gets the mean latency
+     * 
+     * @return Mean in milliseconds
+     */
+    public double getMeanMillis() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : totalMicros.get() / 1_000.0 / count;
+    }
+    
+    /**
+     * Gets the largest recorded latency
+     * 
+     * @return Max in milliseconds
+     */
+    public double getMaxMillis() {
+        return totalCount.get() == 0 ? 0 : maxMicros.get() / 1_000.0;
+    }
+    
+    /**
+     * Gets the smallest recorded latency
+     * 
+     * @return Min in milliseconds
+     */
+    public double getMinMillis() {
+        return totalCount.get() == 0 ? 0 : minMicros.get() / 1_000.0;
+    }
+    
+    /**
+     * Gets the latency at a percentile
+     * Reports the highest value equivalent to the bucket holding the percentile
+     * 
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in milliseconds
+     */
+    public double getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), maxMicros.get()) / 1_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+    
+    /**
+     * Formats the percentile distribution like HdrHistogram's output
+     * 
+     * @return Multi-line percentile table
+     */
+    public String formatPercentiles() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%14s %12s %12s%n", "Value(ms)", "Percentile", "1/(1-P)"));
+        double[] percentiles = {0, 25, 50, 75, 90, 95, 99, 99.5, 99.9, 99.99, 100};
+        for (double percentile : percentiles) {
+            String inverse = percentile >= 100 ? "inf" : String.format("%.2f", 100.0 / (100.0 - percentile));
+            sb.append(String.format("%14.3f %12.4f %12s%n",
+                getValueAtPercentile(percentile), percentile / 100.0, inverse));
+        }
+        sb.append(String.format("#[Mean = %.3f, Min = %.3f, Max = %.3f, Count = %d]%n",
+            getMeanMillis(), getMinMillis(), getMaxMillis(), getTotalCount()));
+        return sb.toString();
+    }
+    
+    /**
+     * Maps a value to its bucket
+     * 
+     * @param micros Value in microseconds
+     * @return Bucket index
+     */
+    static int bucketIndex(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+    
+    /**
+     * Gets the largest value that maps to a bucket
+     * 
+     * @param index Bucket index
+     * @return Value in microseconds
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = FIRST_EXPONENT + (index - LINEAR_LIMIT) / SUB_BUCKETS;
+        long subBucket = SUB_BUCKETS + (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.securelogin.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latency Histogram Test
+ * Bucket math and percentiles of LatencyHistogram
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+class LatencyHistogramTest {
+    
+    @Test
+    void valuesBelow128MicrosHaveTheirOwnBucket() {
+        for (int micros = 0; micros < 128; micros++) {
+            assertEquals(micros, LatencyHistogram.bucketIndex(micros));
+            assertEquals(micros, LatencyHistogram.highestEquivalentValue(micros));
+        }
+    }
+    
+    @Test
+    void firstLogBucketsHoldTwoValuesEach() {
+        assertEquals(128, LatencyHistogram.bucketIndex(128));
+        assertEquals(128, LatencyHistogram.bucketIndex(129));
+        assertEquals(129, LatencyHistogram.bucketIndex(130));
+        assertEquals(129, LatencyHistogram.highestEquivalentValue(128));
+        assertEquals(191, LatencyHistogram.bucketIndex(255));
+        assertEquals(192, LatencyHistogram.bucketIndex(256));
+        assertEquals(259, LatencyHistogram.highestEquivalentValue(192));
+    }
+    
+    @Test
+    void bucketsAreContiguousAndContainTheirValues() {
+        int previous = -1;
+        for (long micros = 0; micros < 1 << 22; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertTrue(index == previous || index == previous + 1, "gap at " + micros);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= micros, "bucket too low at " + micros);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestEquivalentValue(index - 1) < micros, "bucket too high at " + micros);
+            }
+            previous = index;
+        }
+    }
+    
+    @Test
+    void relativeErrorStaysUnderOneSixtyFourth() {
+        for (long micros = 128; micros < TimeUnit.MINUTES.toMicros(2); micros = micros * 3 / 2 + 1) {
+            long highest = LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(micros));
+            assertTrue((highest - micros) / (double) micros < 1.0 / 64, "error too large at " + micros);
+        }
+    }
+    
+    @Test
+    void valuesAboveTheRangeShareTheLastBucket() {
+        int last = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+        assertEquals(last, LatencyHistogram.bucketIndex(1L << 27));
+        assertEquals(last, LatencyHistogram.bucketIndex((1L << 27) - 1));
+        assertEquals(last - 1, LatencyHistogram.bucketIndex((1L << 27) - (1L << 20) - 1));
+    }
+    
+    @Test
+    void percentilesReportTheBucketOfTheRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        assertEquals(100, histogram.getTotalCount());
+        assertEquals(50.5, histogram.getMeanMillis(), 1e-9);
+        assertEquals(1.0, histogram.getMinMillis(), 1e-9);
+        assertEquals(100.0, histogram.getMaxMillis(), 1e-9);
+        assertEquals(50.0, histogram.getValueAtPercentile(50), 50.0 / 64);
+        assertEquals(99.0, histogram.getValueAtPercentile(99), 99.0 / 64);
+        // Capped at the recorded max rather than the end of its bucket
+        assertEquals(100.0, histogram.getValueAtPercentile(100), 1e-9);
+    }
+    
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99), 1e-9);
+        assertEquals(0, histogram.getMeanMillis(), 1e-9);
+        assertEquals(0, histogram.getMaxMillis(), 1e-9);
+    }
+}
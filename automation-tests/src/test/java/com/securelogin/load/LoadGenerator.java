@@ -0,0 +1,311 @@
+package com.securelogin.load;
+
+import com.securelogin.backend.EmbeddedLoginServer;
+import com.securelogin.utils.ApiClient;
+import com.securelogin.utils.ApiClient.ApiResponse;
+import com.securelogin.utils.ConfigReader;
+import com.securelogin.utils.ThreadSupport;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load Generator for POST /api/auth/login
+ * Drives the login endpoint with a weighted mix of the valid, invalid and
+ * injection credentials used in the feature files and writes a latency
+ * histogram and a per-second throughput timeline to target/load-reports/
+ * 
+ * Workload models:
+ * - open:   requests arrive at a fixed rate regardless of response time;
+ *           latency is measured from the intended send time, so queueing
+ *           delay is not hidden (no coordinated omission)
+ * - closed: a fixed number of users each send a request, wait for the
+ *           response, think, and repeat
+ * 
+ * Run with: mvn test -Pload -Dload.model=open -Dload.rate=200 -Dload.duration=30
+ * 
+ * Settings (system properties):
+ * - load.model      open | closed (default open)
+ * - load.rate       requests per second for the open model (default 100)
+ * - load.users      concurrent users for the closed model (default 50)
+ * - load.think.ms   think time between a closed-model user's requests (default 0)
+ * - load.duration   measured seconds (default 30)
+ * - load.warmup     seconds excluded from the histogram (default 5)
+ * - load.mix        credential mix weights (default valid:60,invalid:30,injection:10)
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class LoadGenerator {
+    
+    private static final Path REPORT_DIR = Paths.get("target", "load-reports");
+    
+    // Credential sets taken from the feature files
+    private static final String[][] VALID = {
+        {"admin", "admin123"},
+        {"testuser", "test1234"}
+    };
+    private static final String[][] INVALID = {
+        {"invaliduser", "admin123"},
+        {"admin", "wrongpassword"},
+        {"nonexistentuser123", "password123"},
+        {"wronguser", "wrongpass"}
+    };
+    private static final String[][] INJECTION = {
+        {"' OR '1'='1", "anything"},
+        {"admin", "' OR '1'='1"},
+        {"admin'--", "anything"},
+        {"admin' UNION SELECT * FROM users--", "password"},
+        {"admin", "<script>alert('XSS')</script>"},
+        {"<img src=x onerror=alert('XSS')>", "admin123"}
+    };
+    
+    private final ApiClient apiClient;
+    private final String model;
+    private final int rate;
+    private final int users;
+    private final long thinkMillis;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final Map<String, Integer> mix;
+    private final int mixTotal;
+    
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Map<Long, LatencyHistogram> perSecond = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> errorsPerSecond = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+    private final AtomicLong errors = new AtomicLong();
+    private long startNanos;
+    
+    /**
+     * Constructor reads the workload from system properties
+     * 
+     * @param apiUrl Base URL of the backend under load
+     */
+    public LoadGenerator(String apiUrl) {
+        this.apiClient = new ApiClient(apiUrl);
+        this.model = System.getProperty("load.model", "open").toLowerCase();
+        this.rate = Integer.getInteger("load.rate", 100);
+        this.users = Integer.getInteger("load.users", 50);
+        this.thinkMillis = Long.getLong("load.think.ms", 0);
+        this.durationSeconds = Integer.getInteger("load.duration", 30);
+        this.warmupSeconds = Integer.getInteger("load.warmup", 5);
+        this.mix = parseMix(System.getProperty("load.mix", "valid:60,invalid:30,injection:10"));
+        this.mixTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (!"open".equals(model) && !"closed".equals(model)) {
+            throw new IllegalArgumentException("Unknown load.model: " + model);
+        }
+        if (mixTotal <= 0) {
+            throw new IllegalArgumentException("load.mix must have a positive weight");
+        }
+    }
+    
+    /**
+     * Runs the load test and writes the reports
+     * 
+     * @param args Not used
+     * @throws Exception if the run or report writing fails
+     */
+    public static void main(String[] args) throws Exception {
+        new LoadGenerator(EmbeddedLoginServer.startConfigured(ConfigReader.getInstance())).run();
+    }
+    
+    /**
+     * Runs warmup and measurement, then writes the reports
+     * 
+     * @throws Exception if the run or report writing fails
+     */
+    public void run() throws Exception {
+        ApiResponse health = apiClient.health();
+        System.out.println("→ Backend health: " + health.getStatus());
+        System.out.println("→ Load model: " + model + ", "
+            + ("open".equals(model) ? rate + " req/s" : users + " users, " + thinkMillis + " ms think time")
+            + ", " + warmupSeconds + " s warmup + " + durationSeconds + " s, mix " + mix
+            + (ThreadSupport.virtualThreadsAvailable() ? ", virtual threads" : ", platform threads"));
+            
+        ExecutorService executor = ThreadSupport.newThreadPerTaskExecutor("load");
+        startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds + durationSeconds);
+        try {
+            if ("open".equals(model)) {
+                runOpen(executor, endNanos);
+            } else {
+                runClosed(executor, endNanos);
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        writeReports();
+    }
+    
+    /**
+     * Open model: schedules sends at fixed intervals from a single dispatcher
+     * 
+     * @param executor Executor running the requests
+     * @param endNanos Time to stop scheduling
+     */
+    private void runOpen(ExecutorService executor, long endNanos) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, rate);
+        for (long i = 0; ; i++) {
+            long intended = startNanos + i * intervalNanos;
+            if (intended >= endNanos) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.execute(() -> sendOne(intended));
+        }
+    }
+    
+    /**
+     * Closed model: each user sends, waits for the response and thinks
+     * 
+     * @param executor Executor running the users
+     * @param endNanos Time to stop
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void runClosed(ExecutorService executor, long endNanos) throws InterruptedException {
+        for (int u = 0; u < users; u++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < endNanos) {
+                    sendOne(System.nanoTime());
+                    if (thinkMillis > 0) {
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(thinkMillis));
+                    }
+                }
+            });
+        }
+        long remaining = endNanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+    
+    /**
+     * Sends one login request and records its latency
+     * 
+     * @param intendedNanos When the request should have been sent
+     */
+    private void sendOne(long intendedNanos) {
+        String[] credentials = pickCredentials();
+        long second = TimeUnit.NANOSECONDS.toSeconds(intendedNanos - startNanos);
+        try {
+            ApiResponse response = apiClient.login(credentials[0], credentials[1]);
+            long latency = System.nanoTime() - intendedNanos;
+            statusCounts.computeIfAbsent(response.getStatus(), s -> new AtomicLong()).incrementAndGet();
+            perSecond.computeIfAbsent(second, s -> new LatencyHistogram()).recordNanos(latency);
+            if (second >= warmupSeconds) {
+                histogram.recordNanos(latency);
+            }
+        } catch (RuntimeException e) {
+            errors.incrementAndGet();
+            errorsPerSecond.computeIfAbsent(second, s -> new AtomicLong()).incrementAndGet();
+        }
+    }
+    
+    /**
+     * Picks credentials from the configured weighted mix
+     * 
+     * @return Username and password
+     */
+    private String[] pickCredentials() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(mixTotal);
+        String[][] set = INJECTION;
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                set = credentialSet(entry.getKey());
+                break;
+            }
+        }
+        return set[random.nextInt(set.length)];
+    }
+    
+    /**
+     * Writes the histogram, the throughput timeline and a summary
+     * 
+     * @throws IOException if writing fails
+     */
+    private void writeReports() throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        String percentiles = histogram.formatPercentiles();
+        Files.write(REPORT_DIR.resolve("latency-histogram.txt"), percentiles.getBytes(StandardCharsets.UTF_8));
+        
+        Path timeline = REPORT_DIR.resolve("throughput-timeline.csv");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(timeline, StandardCharsets.UTF_8))) {
+            out.println("second,phase,requests,errors,p50_ms,p99_ms,max_ms");
+            for (long second = 0; second < warmupSeconds + durationSeconds; second++) {
+                LatencyHistogram h = perSecond.getOrDefault(second, new LatencyHistogram());
+                AtomicLong failed = errorsPerSecond.getOrDefault(second, new AtomicLong());
+                out.printf("%d,%s,%d,%d,%.3f,%.3f,%.3f%n", second,
+                    second < warmupSeconds ? "warmup" : "measure",
+                    h.getTotalCount(), failed.get(),
+                    h.getValueAtPercentile(50), h.getValueAtPercentile(99), h.getMaxMillis());
+            }
+        }
+        
+        double throughput = durationSeconds == 0 ? 0 : (double) histogram.getTotalCount() / durationSeconds;
+        System.out.println("════════════════════════════════════════════════════════════");
+        System.out.printf("Throughput: %.1f req/s, errors: %d, status codes: %s%n",
+            throughput, errors.get(), new TreeMap<>(statusCounts));
+        System.out.printf("p50 = %.3f ms, p99 = %.3f ms, p99.9 = %.3f ms, max = %.3f ms%n",
+            histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+            histogram.getValueAtPercentile(99.9), histogram.getMaxMillis());
+        System.out.println("Reports: " + REPORT_DIR.toAbsolutePath());
+        System.out.println("════════════════════════════════════════════════════════════");
+    }
+    
+    /**
+     * Parses a weight list like "valid:60,invalid:30,injection:10"
+     * 
+     * @param spec Mix specification
+     * @return Ordered map of set name to weight
+     */
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> weights = new TreeMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + part);
+            }
+            credentialSet(pair[0].trim());
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+    
+    /**
+     * Gets a credential set by name
+     * 
+     * @param name valid, invalid or injection
+     * @return Credential pairs
+     */
+    private static String[][] credentialSet(String name) {
+        switch (name) {
+            case "valid":
+                return VALID;
+            case "invalid":
+                return INVALID;
+            case "injection":
+                return INJECTION;
+            default:
+                throw new IllegalArgumentException("Unknown credential set: " + name);
+        }
+    }
+}
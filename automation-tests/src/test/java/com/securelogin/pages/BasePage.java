@@ -1,17 +1,32 @@
 package com.securelogin.pages;
 
+import com.securelogin.reporting.StepTimings;
+import com.securelogin.utils.ConfigReader;
+import com.securelogin.utils.DriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Base Page Object class containing common methods used across all page objects
  * Implements the Page Object Model design pattern
+ * Element handles are cached per locator and re-resolved when stale
+ * Time spent in waits and sleeps is reported to StepTimings
  * 
  * @author Secure Login Testing Team
  * @version 1.0
@@ -22,10 +37,115 @@ public class BasePage {
     protected WebDriverWait wait;
     protected JavascriptExecutor js;
     
-    // Timeout constants
-    private static final int DEFAULT_TIMEOUT = 10;
-    private static final int LOADING_TIMEOUT = 15;
+    // Resolved element handles, reused until they go stale
+    private final Map<By, WebElement> elementCache = new HashMap<>();
     
+    // Timeouts from config.properties (explicit.wait, loading.timeout, probe.timeout.ms)
+    private static final Duration DEFAULT_TIMEOUT = ConfigReader.getInstance().getExplicitWait();
+    private static final Duration LOADING_TIMEOUT = ConfigReader.getInstance().getLoadingTimeout();
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    
+    // Presence probes poll briefly with the implicit wait switched off
+    private static final Duration PROBE_TIMEOUT = ConfigReader.getInstance().getProbeTimeout();
+    private static final int PROBE_POLL_MS = 50;
+    private static final AtomicLong PROBES = new AtomicLong();
+    private static final AtomicLong PROBE_TIMEOUTS = new AtomicLong();
+    
+    // Long inputs are set in one call instead of typed key by key
+    private static final int BULK_INPUT_MIN_LENGTH = Integer.getInteger("input.bulk.min.length", 32);
+    private static final ThreadLocal<Boolean> KEYSTROKES_ONLY = ThreadLocal.withInitial(() -> false);
+    
+    /**
+     * Sets an input's value through the native value setter, honouring maxlength
+     * like typing would, then fires the input/change events React listens for
+     */
+    private static final String SET_VALUE_SCRIPT =
+        "var el = arguments[0], value = arguments[1];" +
+        "if (el.maxLength >= 0 && value.length > el.maxLength) { value = value.substring(0, el.maxLength); }" +
+        "var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+        "Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+        "el.dispatchEvent(new Event('input', { bubbles: true }));" +
+        "el.dispatchEvent(new Event('change', { bubbles: true }));";
+        
+    /**
+     * Counts in-flight XHR and fetch requests per URL in window.__pendingRequests
+     * Installed once per document; a new page load removes it again
+     * Also clears the transient states recorded by the last UI wait
+     */
+    private static final String REQUEST_TRACKER_SCRIPT =
+        "window.__seenStates = {};" +
+        "if (window.__pendingRequests) { return; }" +
+        "var pending = window.__pendingRequests = [];" +
+        "function track(url) { pending.push(String(url)); }" +
+        "function untrack(url) { var i = pending.indexOf(String(url)); if (i >= 0) { pending.splice(i, 1); } }" +
+        "var open = XMLHttpRequest.prototype.open, send = XMLHttpRequest.prototype.send;" +
+        "XMLHttpRequest.prototype.open = function(method, url) { this.__url = url; return open.apply(this, arguments); };" +
+        "XMLHttpRequest.prototype.send = function() {" +
+        "  var xhr = this; track(xhr.__url);" +
+        "  xhr.addEventListener('loadend', function() { untrack(xhr.__url); });" +
+        "  return send.apply(this, arguments); };" +
+        "if (window.fetch) { var f = window.fetch; window.fetch = function(input) {" +
+        "  var url = input && input.url ? input.url : input; track(url);" +
+        "  return f.apply(this, arguments).finally(function() { untrack(url); }); }; }";
+        
+    /**
+     * Resolves with the first terminal selector that is visible once no tracked
+     * request matching the URL fragment is in flight, re-checking on every DOM
+     * mutation; resolves null on timeout. Visible watch selectors are recorded
+     * in window.__seenStates so transient states can be asserted afterwards
+     */
+    private static final String UI_STATE_SCRIPT =
+        "var urlFragment = arguments[0], terminal = arguments[1], watch = arguments[2]," +
+        "    timeoutMs = arguments[3], done = arguments[arguments.length - 1];" +
+        "var seen = window.__seenStates = window.__seenStates || {};" +
+        "function visible(sel) { var el = document.querySelector(sel);" +
+        "  return el && el.getClientRects().length > 0 ? el : null; }" +
+        "function busy() { return (window.__pendingRequests || []).some(function(u) {" +
+        "  return u.indexOf(urlFragment) >= 0; }); }" +
+        "function check() {" +
+        "  watch.forEach(function(sel) { var el = visible(sel); if (el) { seen[sel] = el.textContent; } });" +
+        "  if (urlFragment && busy()) { return null; }" +
+        "  for (var i = 0; i < terminal.length; i++) { if (visible(terminal[i])) { return terminal[i]; } }" +
+        "  return null; }" +
+        "var finished = false, observer, interval, timer;" +
+        "function finish(result) { if (finished) { return; } finished = true;" +
+        "  observer.disconnect(); clearInterval(interval); clearTimeout(timer); done(result); }" +
+        "observer = new MutationObserver(function() { var r = check(); if (r) { finish(r); } });" +
+        "observer.observe(document.documentElement," +
+        "  { childList: true, subtree: true, attributes: true, characterData: true });" +
+        "interval = setInterval(function() { var r = check(); if (r) { finish(r); } }, 50);" +
+        "timer = setTimeout(function() { finish(null); }, timeoutMs);" +
+        "var initial = check(); if (initial) { finish(initial); }";
+        
+    /**
+     * Records an input's aria-invalid value and error text before focus moves
+     * away, and flags the input's next blur once its handler has rendered
+     * An input that is not focused has no blur left to wait for
+     */
+    private static final String VALIDATION_WATCH_SCRIPT =
+        "var el = arguments[0], errorSel = arguments[1];" +
+        "function state() { var err = document.querySelector(errorSel);" +
+        "  return el.getAttribute('aria-invalid') + '|' + (err ? err.textContent : ''); }" +
+        "var watch = window.__validationWatch = { state: state, before: state()," +
+        "  handled: document.activeElement !== el };" +
+        "el.addEventListener('blur', function() {" +
+        "  setTimeout(function() { watch.handled = true; }, 0); }, { once: true });";
+        
+    /**
+     * Resolves true as soon as the watched input's aria-invalid value or error
+     * text differs from the recorded one, or its blur was handled without
+     * changing either; resolves false on timeout or without a watch
+     */
+    private static final String VALIDATION_SETTLED_SCRIPT =
+        "var timeoutMs = arguments[0], done = arguments[arguments.length - 1];" +
+        "var watch = window.__validationWatch;" +
+        "if (!watch) { done(false); return; }" +
+        "function settled() { return watch.state() !== watch.before || watch.handled; }" +
+        "if (settled()) { done(true); return; }" +
+        "var started = Date.now(), interval = setInterval(function() {" +
+        "  if (settled()) { clearInterval(interval); done(true); }" +
+        "  else if (Date.now() - started > timeoutMs) { clearInterval(interval); done(false); } }, 20);";
+        
     /**
      * Constructor initializes WebDriver and WebDriverWait
      * 
@@ -33,7 +153,7 @@ public class BasePage {
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        this.wait = new TimedWebDriverWait(driver);
         this.js = (JavascriptExecutor) driver;
     }
     
@@ -44,7 +164,19 @@ public class BasePage {
      * @return WebElement that is visible
      */
     protected WebElement waitForElementVisible(By by) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+        WebElement cached = elementCache.get(by);
+        if (cached != null) {
+            try {
+                if (cached.isDisplayed()) {
+                    return cached;
+                }
+            } catch (StaleElementReferenceException e) {
+                elementCache.remove(by);
+            }
+        }
+        WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+        elementCache.put(by, element);
+        return element;
     }
     
     /**
@@ -54,7 +186,58 @@ public class BasePage {
      * @return WebElement that is clickable
      */
     protected WebElement waitForElementClickable(By by) {
-        return wait.until(ExpectedConditions.elementToBeClickable(by));
+        WebElement cached = elementCache.get(by);
+        if (cached != null) {
+            try {
+                if (cached.isDisplayed() && cached.isEnabled()) {
+                    return cached;
+                }
+            } catch (StaleElementReferenceException e) {
+                elementCache.remove(by);
+            }
+        }
+        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(by));
+        elementCache.put(by, element);
+        return element;
+    }
+    
+    /**
+     * Gets the cached handle for a locator, resolving it on first use
+     * 
+     * @param by Locator strategy for the element
+     * @return WebElement handle
+     */
+    protected WebElement findCachedElement(By by) {
+        WebElement element = elementCache.get(by);
+        if (element == null) {
+            element = driver.findElement(by);
+            elementCache.put(by, element);
+        }
+        return element;
+    }
+    
+    /**
+     * Runs an action against the cached handle for a locator
+     * If the handle has gone stale it is resolved again and the action retried once
+     * 
+     * @param by Locator strategy for the element
+     * @param action Action to run on the element
+     * @return Result of the action
+     */
+    protected <T> T withElement(By by, Function<WebElement, T> action) {
+        try {
+            return action.apply(findCachedElement(by));
+        } catch (StaleElementReferenceException e) {
+            elementCache.remove(by);
+            return action.apply(findCachedElement(by));
+        }
+    }
+    
+    /**
+     * Drops all cached element handles, e.g. after navigating to a new page
+     */
+    protected void clearElementCache() {
+        elementCache.clear();
     }
     
     /**
@@ -64,11 +247,28 @@ public class BasePage {
      * @return true if element is displayed, false otherwise
      */
     protected boolean isElementDisplayed(By by) {
-        try {
-            return driver.findElement(by).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return probeElement(by, PROBE_TIMEOUT, WebElement::isDisplayed);
+    }
+    
+    /**
+     * Checks if an element is displayed, polling for it up to the given time
+     * 
+     * @param by Locator strategy for the element
+     * @param timeout How long to poll for the element to appear
+     * @return true if element is displayed, false otherwise
+     */
+    protected boolean isElementDisplayed(By by, Duration timeout) {
+        return probeElement(by, timeout, WebElement::isDisplayed);
+    }
+    
+    /**
+     * Checks if an element is present in the DOM without waiting for it
+     * 
+     * @param by Locator strategy for the element
+     * @return true if element is present, false otherwise
+     */
+    protected boolean isElementPresent(By by) {
+        return probeElement(by, Duration.ZERO, element -> element.getTagName() != null);
     }
     
     /**
@@ -78,13 +278,97 @@ public class BasePage {
      * @return true if element is enabled, false otherwise
      */
     protected boolean isElementEnabled(By by) {
+        return probeElement(by, PROBE_TIMEOUT, WebElement::isEnabled);
+    }
+    
+    /**
+     * Looks up an element with the implicit wait disabled and tests it
+     * The element is looked up and tested again until the check passes or
+     * the timeout runs out, so an element that is absent or still hidden
+     * is reported after at most the given timeout instead of blocking for
+     * the driver's full implicit wait
+     * 
+     * @param by Locator strategy for the element
+     * @param timeout How long to poll for the check to pass
+     * @param check Condition to test on the element once found
+     * @return true if the check passed before the timeout
+     */
+    private boolean probeElement(By by, Duration timeout, Predicate<WebElement> check) {
+        PROBES.incrementAndGet();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean implicitWaitOff = false;
+        boolean staleRetried = false;
         try {
-            return driver.findElement(by).isEnabled();
-        } catch (Exception e) {
+            while (true) {
+                WebElement element = elementCache.get(by);
+                if (element == null) {
+                    if (!implicitWaitOff) {
+                        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+                        implicitWaitOff = true;
+                    }
+                    List<WebElement> elements = driver.findElements(by);
+                    if (!elements.isEmpty()) {
+                        element = elements.get(0);
+                        elementCache.put(by, element);
+                    }
+                }
+                if (element != null) {
+                    try {
+                        if (check.test(element)) {
+                            return true;
+                        }
+                    } catch (StaleElementReferenceException e) {
+                        // Element was re-rendered, look it up again
+                        elementCache.remove(by);
+                        if (!staleRetried || System.nanoTime() < deadline) {
+                            staleRetried = true;
+                            continue;
+                        }
+                    }
+                }
+                if (System.nanoTime() >= deadline) {
+                    PROBE_TIMEOUTS.incrementAndGet();
+                    return false;
+                }
+                pause(PROBE_POLL_MS);
+            }
+        } catch (WebDriverException e) {
             return false;
+        } finally {
+            if (implicitWaitOff) {
+                driver.manage().timeouts().implicitlyWait(DriverManager.getImplicitWait());
+            }
         }
     }
     
+    /**
+     * Gets the number of presence probes run in this JVM
+     * 
+     * @return Probe count
+     */
+    public static long getProbeCount() {
+        return PROBES.get();
+    }
+    
+    /**
+     * Gets the number of probes that found no element before their timeout
+     * Each of these would have blocked for the full implicit wait before
+     * 
+     * @return Count of negative probes that timed out
+     */
+    public static long getProbeTimeoutCount() {
+        return PROBE_TIMEOUTS.get();
+    }
+    
+    /**
+     * Gets the time a negative probe waits before giving up
+     * 
+     * @return Probe timeout
+     */
+    public static Duration getProbeTimeout() {
+        return PROBE_TIMEOUT;
+    }
+    
     /**
      * Gets text from an element
      * 
@@ -103,7 +387,7 @@ public class BasePage {
      * @return Attribute value
      */
     protected String getElementAttribute(By by, String attribute) {
-        return driver.findElement(by).getAttribute(attribute);
+        return withElement(by, element -> element.getAttribute(attribute));
     }
     
     /**
@@ -113,9 +397,59 @@ public class BasePage {
      * @param text Text to type
      */
     protected void clearAndType(By by, String text) {
+        if (useBulkInput(text)) {
+            setInputValue(by, text);
+            return;
+        }
+        WebElement element = waitForElementVisible(by);
+        try {
+            element.clear();
+            element.sendKeys(text);
+        } catch (StaleElementReferenceException e) {
+            elementCache.remove(by);
+            element = waitForElementVisible(by);
+            element.clear();
+            element.sendKeys(text);
+        }
+    }
+    
+    /**
+     * Replaces an input's value in a single call instead of per-keystroke typing
+     * Fires input and change events so React validation still runs
+     * 
+     * @param by Locator strategy for the element
+     * @param text Value to set
+     */
+    protected void setInputValue(By by, String text) {
         WebElement element = waitForElementVisible(by);
-        element.clear();
-        element.sendKeys(text);
+        try {
+            js.executeScript(SET_VALUE_SCRIPT, element, text);
+        } catch (StaleElementReferenceException e) {
+            elementCache.remove(by);
+            js.executeScript(SET_VALUE_SCRIPT, waitForElementVisible(by), text);
+        }
+    }
+    
+    /**
+     * Decides whether text is entered in bulk or typed key by key
+     * 
+     * @param text Text to enter
+     * @return true if the value should be set in bulk
+     */
+    private boolean useBulkInput(String text) {
+        return !KEYSTROKES_ONLY.get()
+            && BULK_INPUT_MIN_LENGTH >= 0
+            && text.length() >= BULK_INPUT_MIN_LENGTH;
+    }
+    
+    /**
+     * Forces real keystrokes for all text entry on the current thread
+     * Used for scenarios that need keystroke-level fidelity
+     * 
+     * @param keystrokesOnly true to disable bulk input
+     */
+    public static void setKeystrokesOnly(boolean keystrokesOnly) {
+        KEYSTROKES_ONLY.set(keystrokesOnly);
     }
     
     /**
@@ -124,7 +458,12 @@ public class BasePage {
      * @param by Locator strategy for the element
      */
     protected void clickElement(By by) {
-        waitForElementClickable(by).click();
+        try {
+            waitForElementClickable(by).click();
+        } catch (StaleElementReferenceException e) {
+            elementCache.remove(by);
+            waitForElementClickable(by).click();
+        }
     }
     
     /**
@@ -133,8 +472,7 @@ public class BasePage {
      * @param by Locator strategy for the element
      */
     protected void scrollToElement(By by) {
-        WebElement element = driver.findElement(by);
-        js.executeScript("arguments[0].scrollIntoView(true);", element);
+        withElement(by, element -> js.executeScript("arguments[0].scrollIntoView(true);", element));
     }
     
     /**
@@ -164,6 +502,70 @@ public class BasePage {
         return driver.getTitle();
     }
     
+    /**
+     * Starts counting in-flight XHR/fetch requests on the current page
+     * Call before the action that sends the request
+     */
+    protected void installRequestTracker() {
+        js.executeScript(REQUEST_TRACKER_SCRIPT);
+    }
+    
+    /**
+     * Waits until the UI reaches one of the given terminal states
+     * Returns as soon as a matching element is visible and no request whose
+     * URL contains the fragment is still in flight, instead of sleeping for
+     * a fixed worst-case time
+     * 
+     * @param urlFragment URL fragment of requests to wait for (null to ignore network)
+     * @param terminalSelectors CSS selectors of terminal UI states
+     * @param watchSelectors CSS selectors of transient states to record while waiting
+     * @return The terminal selector that matched, or null on timeout
+     */
+    protected String waitForUiState(String urlFragment, String[] terminalSelectors, String... watchSelectors) {
+        Object result = StepTimings.timeWait(() -> js.executeAsyncScript(UI_STATE_SCRIPT,
+            urlFragment == null ? "" : urlFragment,
+            Arrays.asList(terminalSelectors),
+            Arrays.asList(watchSelectors),
+            LOADING_TIMEOUT.toMillis()));
+        return (String) result;
+    }
+    
+    /**
+     * Checks if a watched transient state was seen during the last UI wait
+     * 
+     * @param cssSelector Watched CSS selector
+     * @return Text content the element had when seen, or null if never seen
+     */
+    protected String getSeenStateText(String cssSelector) {
+        return (String) js.executeScript(
+            "var seen = window.__seenStates || {};" +
+            "return seen.hasOwnProperty(arguments[0]) ? seen[arguments[0]] : null;", cssSelector);
+    }
+    
+    /**
+     * Records an input's validation state before the action that blurs it
+     * Call before moving focus away, then wait with waitForValidation
+     * 
+     * @param field Locator of the input
+     * @param errorCss CSS selector of the input's error message
+     */
+    protected void watchValidation(By field, String errorCss) {
+        withElement(field, element -> js.executeScript(VALIDATION_WATCH_SCRIPT, element, errorCss));
+    }
+    
+    /**
+     * Waits until the input watched by watchValidation has re-rendered its
+     * validation after the blur: aria-invalid or the error text changed, or
+     * the blur was handled and left both as they were
+     * 
+     * @return true once validation has settled, false on timeout
+     */
+    protected boolean waitForValidation() {
+        Object result = StepTimings.timeWait(() -> js.executeAsyncScript(VALIDATION_SETTLED_SCRIPT,
+            LOADING_TIMEOUT.toMillis()));
+        return Boolean.TRUE.equals(result);
+    }
+    
     /**
      * Pauses execution for specified milliseconds
      * Used sparingly, prefer explicit waits
@@ -172,7 +574,7 @@ public class BasePage {
      */
     protected void pause(int milliseconds) {
         try {
-            Thread.sleep(milliseconds);
+            StepTimings.sleep(Duration.ofMillis(milliseconds));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -203,4 +605,20 @@ public class BasePage {
             return false;
         }
     }
+    
+    /**
+     * WebDriverWait whose whole wait, including the lookups it polls with
+     * and its sleeps, counts as wait time in StepTimings
+     */
+    private static final class TimedWebDriverWait extends WebDriverWait {
+        
+        TimedWebDriverWait(WebDriver driver) {
+            super(driver, DEFAULT_TIMEOUT, POLL_INTERVAL, Clock.systemDefaultZone(), StepTimings::sleep);
+        }
+        
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            return StepTimings.timeWait(() -> super.until(isTrue));
+        }
+    }
 }
@@ -1,8 +1,12 @@
 package com.securelogin.pages;
 
+import com.securelogin.reporting.PageLoadTimings;
+import com.securelogin.scheduling.ImpactRecorder;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.Map;
+
 /**
  * Page Object Model for Login Page
  * Contains all locators and methods related to login functionality
@@ -34,6 +38,55 @@ public class LoginPage extends BasePage {
     // Loading State
     private final By loadingSpinner = By.xpath("//button[@id='login-button']//svg[contains(@class, 'animate-spin')]");
     
+    // CSS selectors for in-page UI state waits
+    private static final String LOGIN_API_PATH = "/api/auth/login";
+    private static final String DASHBOARD_CSS = "#welcome-message";
+    private static final String GENERAL_ERROR_CSS = "#error-message";
+    private static final String USERNAME_ERROR_CSS = "#username-error";
+    private static final String PASSWORD_ERROR_CSS = "#password-error";
+    private static final String LOADING_SPINNER_CSS = "#login-button svg.animate-spin";
+    private static final String LOADING_BUTTON_CSS = "#login-button:has(svg.animate-spin)";
+    
+    /**
+     * Collects every UI property checked by the UI validation scenarios in one call
+     */
+    private static final String SNAPSHOT_SCRIPT =
+        "function q(sel) { return document.querySelector(sel); }" +
+        "function shown(el) { if (!el) { return false; }" +
+        "  var style = window.getComputedStyle(el);" +
+        "  return el.getClientRects().length > 0 && style.visibility !== 'hidden'" +
+        "    && style.display !== 'none' && style.opacity !== '0'; }" +
+        "function attr(el, name) { return el ? el.getAttribute(name) : null; }" +
+        "function icon(input) { var prev = input ? input.previousElementSibling : null;" +
+        "  return prev ? prev.querySelector('svg') : null; }" +
+        "var username = q('#username'), password = q('#password'), button = q('#login-button');" +
+        "return {" +
+        "  usernamePlaceholder: attr(username, 'placeholder')," +
+        "  passwordPlaceholder: attr(password, 'placeholder')," +
+        "  usernameAriaLabel: attr(username, 'aria-label')," +
+        "  passwordAriaLabel: attr(password, 'aria-label')," +
+        "  loginButtonAriaLabel: attr(button, 'aria-label')," +
+        "  passwordFieldType: attr(password, 'type')," +
+        "  loginCardClasses: attr(q('.card-gradient'), 'class')," +
+        "  loginButtonText: button ? button.innerText.trim() : null," +
+        "  loginButtonEnabled: !!button && !button.disabled," +
+        "  usernameLabelDisplayed: shown(q(\"label[for='username']\"))," +
+        "  passwordLabelDisplayed: shown(q(\"label[for='password']\"))," +
+        "  usernameIconDisplayed: shown(icon(username))," +
+        "  passwordIconDisplayed: shown(icon(password))," +
+        "  generalErrorDisplayed: shown(q('#error-message'))," +
+        "  usernameErrorDisplayed: shown(q('#username-error'))," +
+        "  passwordErrorDisplayed: shown(q('#password-error'))," +
+        "  loadingIndicatorDisplayed: shown(q('#login-button svg.animate-spin'))" +
+        "};";
+        
+    // Snapshot reused by consecutive assertions until the next page action
+    private LoginPageSnapshot lastSnapshot;
+    
+    // Field contents as typed, for the impact map
+    private String enteredUsername = "";
+    private String enteredPassword = "";
+    
     // ==================== CONSTRUCTOR ====================
     
     /**
@@ -53,8 +106,14 @@ public class LoginPage extends BasePage {
      * @param url Base URL of the application
      */
     public void navigateToLoginPage(String url) {
+        lastSnapshot = null;
+        long start = System.nanoTime();
         driver.get(url);
+        enteredUsername = "";
+        enteredPassword = "";
+        clearElementCache();
         waitForPageLoad();
+        PageLoadTimings.record(System.nanoTime() - start);
     }
     
     /**
@@ -76,7 +135,9 @@ public class LoginPage extends BasePage {
      * @param username Username to enter
      */
     public void enterUsername(String username) {
+        lastSnapshot = null;
         clearAndType(usernameField, username);
+        enteredUsername = username;
     }
     
     /**
@@ -85,27 +146,35 @@ public class LoginPage extends BasePage {
      * @param password Password to enter
      */
     public void enterPassword(String password) {
+        lastSnapshot = null;
         clearAndType(passwordField, password);
+        enteredPassword = password;
     }
     
     /**
      * Clears the username field
      */
     public void clearUsername() {
+        lastSnapshot = null;
         waitForElementVisible(usernameField).clear();
+        enteredUsername = "";
     }
     
     /**
      * Clears the password field
      */
     public void clearPassword() {
+        lastSnapshot = null;
         waitForElementVisible(passwordField).clear();
+        enteredPassword = "";
     }
     
     /**
      * Moves focus away from username field
      */
     public void blurUsernameField() {
+        lastSnapshot = null;
+        watchValidation(usernameField, USERNAME_ERROR_CSS);
         clickElement(passwordField);
     }
     
@@ -113,6 +182,8 @@ public class LoginPage extends BasePage {
      * Moves focus away from password field
      */
     public void blurPasswordField() {
+        lastSnapshot = null;
+        watchValidation(passwordField, PASSWORD_ERROR_CSS);
         clickElement(loginButton);
     }
     
@@ -122,15 +193,54 @@ public class LoginPage extends BasePage {
      * Clicks the login button
      */
     public void clickLoginButton() {
+        lastSnapshot = null;
+        installRequestTracker();
+        ImpactRecorder.recordLogin(enteredUsername, enteredPassword);
         clickElement(loginButton);
     }
     
+    /**
+     * Waits until the login attempt has finished: the login request has
+     * settled and the dashboard, a general error or a validation error is shown
+     * Records whether the loading state was visible along the way
+     * 
+     * @return true if a terminal state was reached, false on timeout
+     */
+    public boolean waitForLoginToComplete() {
+        String[] terminal = {DASHBOARD_CSS, GENERAL_ERROR_CSS, USERNAME_ERROR_CSS, PASSWORD_ERROR_CSS};
+        return waitForUiState(LOGIN_API_PATH, terminal, LOADING_SPINNER_CSS, LOADING_BUTTON_CSS) != null;
+    }
+    
+    /**
+     * Waits until username validation has rendered after blurUsernameField
+     * 
+     * @return true once aria-invalid or the error changed, or the blur left
+     *         both unchanged; false on timeout
+     */
+    public boolean waitForUsernameValidation() {
+        return waitForValidation();
+    }
+    
+    /**
+     * Waits until password validation has rendered after blurPasswordField
+     * 
+     * @return true once aria-invalid or the error changed, or the blur left
+     *         both unchanged; false on timeout
+     */
+    public boolean waitForPasswordValidation() {
+        return waitForValidation();
+    }
+    
     /**
      * Attempts to click login button (even if disabled)
      */
     public void attemptToClickLoginButton() {
+        lastSnapshot = null;
         try {
-            driver.findElement(loginButton).click();
+            withElement(loginButton, element -> {
+                element.click();
+                return null;
+            });
         } catch (Exception e) {
             // Button is disabled, which is expected behavior
         }
@@ -219,6 +329,26 @@ public class LoginPage extends BasePage {
         return isElementDisplayed(loadingSpinner);
     }
     
+    /**
+     * Checks if the loading indicator was shown during the last login attempt
+     * The spinner disappears once the request settles, so this also
+     * consults the states recorded by waitForLoginToComplete
+     * 
+     * @return true if loading spinner was or is visible, false otherwise
+     */
+    public boolean wasLoadingIndicatorDisplayed() {
+        return getSeenStateText(LOADING_SPINNER_CSS) != null || isLoadingIndicatorDisplayed();
+    }
+    
+    /**
+     * Gets the login button text recorded while the loading spinner was shown
+     * 
+     * @return Button text during loading, or null if loading was not seen
+     */
+    public String getLoadingButtonText() {
+        return getSeenStateText(LOADING_BUTTON_CSS);
+    }
+    
     /**
      * Gets the login button text
      * 
@@ -334,6 +464,30 @@ public class LoginPage extends BasePage {
         return hasClass(loginCard, "error-shake");
     }
     
+    // ==================== UI SNAPSHOT ====================
+    
+    /**
+     * Captures placeholders, aria-labels, field type, classes, labels,
+     * icons and message visibility with a single JavaScript call
+     * 
+     * @return Immutable snapshot of the current UI state
+     */
+    @SuppressWarnings("unchecked")
+    public LoginPageSnapshot snapshot() {
+        lastSnapshot = new LoginPageSnapshot((Map<String, Object>) js.executeScript(SNAPSHOT_SCRIPT));
+        return lastSnapshot;
+    }
+    
+    /**
+     * Gets the snapshot taken since the last page action, taking one if needed
+     * Lets a run of assertions share a single round trip
+     * 
+     * @return Snapshot of the current UI state
+     */
+    public LoginPageSnapshot currentSnapshot() {
+        return lastSnapshot != null ? lastSnapshot : snapshot();
+    }
+    
     // ==================== COMPLETE LOGIN ACTION ====================
     
     /**
@@ -356,10 +510,6 @@ public class LoginPage extends BasePage {
      * @return String with specified length
      */
     public String generateStringWithLength(int length) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < length; i++) {
-            sb.append("a");
-        }
-        return sb.toString();
+        return "a".repeat(length);
     }
 }
@@ -0,0 +1,142 @@
+package com.securelogin.pages;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the login page UI state
+ * Collected by LoginPage.snapshot() with a single JavaScript call so that
+ * UI assertions can be checked locally instead of one WebDriver round trip each
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public final class LoginPageSnapshot {
+    
+    private final String usernamePlaceholder;
+    private final String passwordPlaceholder;
+    private final String usernameAriaLabel;
+    private final String passwordAriaLabel;
+    private final String loginButtonAriaLabel;
+    private final String passwordFieldType;
+    private final String loginCardClasses;
+    private final String loginButtonText;
+    private final boolean loginButtonEnabled;
+    private final boolean usernameLabelDisplayed;
+    private final boolean passwordLabelDisplayed;
+    private final boolean usernameIconDisplayed;
+    private final boolean passwordIconDisplayed;
+    private final boolean generalErrorDisplayed;
+    private final boolean usernameErrorDisplayed;
+    private final boolean passwordErrorDisplayed;
+    private final boolean loadingIndicatorDisplayed;
+    
+    /**
+     * Creates a snapshot from the values returned by the snapshot script
+     * 
+     * @param values Map of property name to value
+     */
+    LoginPageSnapshot(Map<String, Object> values) {
+        this.usernamePlaceholder = (String) values.get("usernamePlaceholder");
+        this.passwordPlaceholder = (String) values.get("passwordPlaceholder");
+        this.usernameAriaLabel = (String) values.get("usernameAriaLabel");
+        this.passwordAriaLabel = (String) values.get("passwordAriaLabel");
+        this.loginButtonAriaLabel = (String) values.get("loginButtonAriaLabel");
+        this.passwordFieldType = (String) values.get("passwordFieldType");
+        this.loginCardClasses = (String) values.get("loginCardClasses");
+        this.loginButtonText = (String) values.get("loginButtonText");
+        this.loginButtonEnabled = Boolean.TRUE.equals(values.get("loginButtonEnabled"));
+        this.usernameLabelDisplayed = Boolean.TRUE.equals(values.get("usernameLabelDisplayed"));
+        this.passwordLabelDisplayed = Boolean.TRUE.equals(values.get("passwordLabelDisplayed"));
+        this.usernameIconDisplayed = Boolean.TRUE.equals(values.get("usernameIconDisplayed"));
+        this.passwordIconDisplayed = Boolean.TRUE.equals(values.get("passwordIconDisplayed"));
+        this.generalErrorDisplayed = Boolean.TRUE.equals(values.get("generalErrorDisplayed"));
+        this.usernameErrorDisplayed = Boolean.TRUE.equals(values.get("usernameErrorDisplayed"));
+        this.passwordErrorDisplayed = Boolean.TRUE.equals(values.get("passwordErrorDisplayed"));
+        this.loadingIndicatorDisplayed = Boolean.TRUE.equals(values.get("loadingIndicatorDisplayed"));
+    }
+    
+    public String getUsernamePlaceholder() {
+        return usernamePlaceholder;
+    }
+    
+    public String getPasswordPlaceholder() {
+        return passwordPlaceholder;
+    }
+    
+    public String getUsernameAriaLabel() {
+        return usernameAriaLabel;
+    }
+    
+    public String getPasswordAriaLabel() {
+        return passwordAriaLabel;
+    }
+    
+    public String getLoginButtonAriaLabel() {
+        return loginButtonAriaLabel;
+    }
+    
+    public String getPasswordFieldType() {
+        return passwordFieldType;
+    }
+    
+    public String getLoginButtonText() {
+        return loginButtonText;
+    }
+    
+    public boolean isLoginButtonEnabled() {
+        return loginButtonEnabled;
+    }
+    
+    public boolean isUsernameLabelDisplayed() {
+        return usernameLabelDisplayed;
+    }
+    
+    public boolean isPasswordLabelDisplayed() {
+        return passwordLabelDisplayed;
+    }
+    
+    public boolean isUsernameIconDisplayed() {
+        return usernameIconDisplayed;
+    }
+    
+    public boolean isPasswordIconDisplayed() {
+        return passwordIconDisplayed;
+    }
+    
+    public boolean isGeneralErrorDisplayed() {
+        return generalErrorDisplayed;
+    }
+    
+    public boolean isUsernameErrorDisplayed() {
+        return usernameErrorDisplayed;
+    }
+    
+    public boolean isPasswordErrorDisplayed() {
+        return passwordErrorDisplayed;
+    }
+    
+    public boolean isLoadingIndicatorDisplayed() {
+        return loadingIndicatorDisplayed;
+    }
+    
+    /**
+     * Checks if the login card had a CSS class when the snapshot was taken
+     * 
+     * @param className CSS class name to check
+     * @return true if the class was present, false otherwise
+     */
+    public boolean loginCardHasClass(String className) {
+        return loginCardClasses != null && loginCardClasses.contains(className);
+    }
+    
+    @Override
+    public String toString() {
+        return "LoginPageSnapshot{usernamePlaceholder='" + usernamePlaceholder + '\''
+            + ", passwordPlaceholder='" + passwordPlaceholder + '\''
+            + ", passwordFieldType='" + passwordFieldType + '\''
+            + ", loginButtonText='" + loginButtonText + '\''
+            + ", loginButtonEnabled=" + loginButtonEnabled
+            + ", generalErrorDisplayed=" + generalErrorDisplayed
+            + ", loadingIndicatorDisplayed=" + loadingIndicatorDisplayed + '}';
+    }
+}
@@ -0,0 +1,62 @@
+package com.securelogin.reporting;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * Command Timing Listener
+ * Times every call made through a decorated WebDriver, its elements and
+ * its navigation/options objects, and adds it to StepTimings. Element
+ * lookups made while the implicit wait is on block until the element
+ * appears or the wait runs out, so they are counted as wait time
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.1
+ */
+public class CommandTimingListener implements WebDriverListener {
+    
+    // Start of the outermost call in progress on this thread
+    private final ThreadLocal<long[]> callStart = ThreadLocal.withInitial(() -> new long[2]);
+    // Whether the outermost call is a lookup that can block on the implicit wait
+    private final ThreadLocal<boolean[]> blockingLookup = ThreadLocal.withInitial(() -> new boolean[1]);
+    // Drivers are thread-confined and created with an implicit wait
+    private final ThreadLocal<boolean[]> implicitWaitOn = ThreadLocal.withInitial(() -> new boolean[] {true});
+    
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if ("implicitlyWait".equals(method.getName()) && args != null && args.length == 1
+                && args[0] instanceof Duration) {
+            implicitWaitOn.get()[0] = !((Duration) args[0]).isZero();
+        }
+        long[] state = callStart.get();
+        if (state[1]++ == 0) {
+            state[0] = System.nanoTime();
+            blockingLookup.get()[0] = implicitWaitOn.get()[0] && method.getName().startsWith("findElement");
+        }
+    }
+    
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        endCall();
+    }
+    
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        endCall();
+    }
+    
+    private void endCall() {
+        long[] state = callStart.get();
+        if (state[1] > 0 && --state[1] == 0) {
+            long nanos = System.nanoTime() - state[0];
+            if (blockingLookup.get()[0]) {
+                StepTimings.recordWait(nanos);
+            } else {
+                StepTimings.recordCommand(nanos);
+            }
+        }
+    }
+}
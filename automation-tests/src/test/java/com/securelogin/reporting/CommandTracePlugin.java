@@ -0,0 +1,202 @@
+package com.securelogin.reporting;
+
+import com.securelogin.load.LatencyHistogram;
+import com.securelogin.utils.DriverManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command Trace Plugin
+ * Traces every scenario on its own thread with CommandTracer and exports
+ * the spans (scenario > step/hook > WebDriver command) as an
+ * OpenTelemetry-style JSON file per scenario, in OTLP/JSON layout so the
+ * files can be loaded by OTLP-compatible trace viewers. At the end of the
+ * run command-summary.txt lists count and latency percentiles per
+ * command and issuing page-object method
+ * 
+ * Register with plugin "com.securelogin.reporting.CommandTracePlugin:<dir>"
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class CommandTracePlugin implements ConcurrentEventListener {
+    
+    private static final Json JSON = new Json();
+    private static final String SCOPE = CommandTracer.class.getName();
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_CLIENT = 3;
+    private static final int STATUS_ERROR = 2;
+    
+    private final File outputDir;
+    
+    /**
+     * Constructor
+     * 
+     * @param outputDir Directory for trace files and the summary
+     */
+    public CommandTracePlugin(File outputDir) {
+        this.outputDir = outputDir;
+    }
+    
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class,
+            event -> CommandTracer.endStep(event.getResult().getError()));
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeSummary());
+    }
+    
+    private void onTestCaseStarted(TestCaseStarted event) {
+        TestCase testCase = event.getTestCase();
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("cucumber.feature", testCase.getUri().toString());
+        attributes.put("cucumber.line", testCase.getLocation().getLine());
+        attributes.put("cucumber.tags", String.join(" ", testCase.getTags()));
+        attributes.put("webdriver.browser", DriverManager.getBrowserName());
+        CommandTracer.startScenario(testCase.getName(), attributes);
+    }
+    
+    private void onTestStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            CommandTracer.startStep(step.getStep().getKeyword() + step.getStep().getText());
+        } else if (event.getTestStep() instanceof HookTestStep) {
+            HookTestStep hook = (HookTestStep) event.getTestStep();
+            CommandTracer.startStep(hook.getHookType() + " " + hook.getCodeLocation());
+        }
+    }
+    
+    private void onTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        CommandTracer.finishScenario(event.getResult().getError()).ifPresent(spans -> {
+            String path = testCase.getUri().getSchemeSpecificPart();
+            String feature = path.substring(path.lastIndexOf('/') + 1).replace(".feature", "");
+            writeTrace(new File(outputDir, feature + "-line" + testCase.getLocation().getLine() + ".json"), spans);
+        });
+    }
+    
+    /**
+     * Writes one scenario's spans in OTLP/JSON layout
+     * 
+     * @param file Trace file
+     * @param spans Spans of the scenario
+     */
+    private void writeTrace(File file, List<CommandTracer.Span> spans) {
+        List<Map<String, Object>> otlpSpans = new ArrayList<>();
+        for (CommandTracer.Span span : spans) {
+            Map<String, Object> otlp = new LinkedHashMap<>();
+            otlp.put("traceId", span.getTraceId());
+            otlp.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                otlp.put("parentSpanId", span.getParentSpanId());
+            }
+            otlp.put("name", span.getName());
+            otlp.put("kind", span.getAttributes().containsKey("code.function") ? SPAN_KIND_CLIENT : SPAN_KIND_INTERNAL);
+            otlp.put("startTimeUnixNano", Long.toString(span.getStartNanos()));
+            otlp.put("endTimeUnixNano", Long.toString(span.getEndNanos()));
+            otlp.put("attributes", toAttributes(span.getAttributes()));
+            if (span.getError() != null) {
+                Map<String, Object> status = new LinkedHashMap<>();
+                status.put("code", STATUS_ERROR);
+                status.put("message", span.getError());
+                otlp.put("status", status);
+            }
+            otlpSpans.add(otlp);
+        }
+        
+        Map<String, Object> scope = new LinkedHashMap<>();
+        scope.put("scope", Map.of("name", SCOPE, "version", "1.0"));
+        scope.put("spans", otlpSpans);
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("resource", Map.of("attributes",
+            toAttributes(Map.of("service.name", "secure-login-automation"))));
+        resource.put("scopeSpans", Collections.singletonList(scope));
+        
+        outputDir.mkdirs();
+        try (Writer out = new FileWriter(file, StandardCharsets.UTF_8)) {
+            out.write(JSON.toJson(Map.of("resourceSpans", Collections.singletonList(resource))));
+        } catch (IOException e) {
+            System.err.println("Could not write command trace " + file + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Converts attributes to OTLP key/value pairs
+     * 
+     * @param attributes Attribute map
+     * @return OTLP attribute list
+     */
+    private static List<Map<String, Object>> toAttributes(Map<String, Object> attributes) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        attributes.forEach((key, value) -> {
+            Map<String, Object> typed;
+            if (value instanceof Number) {
+                typed = Map.of("intValue", value.toString());
+            } else if (value instanceof Boolean) {
+                typed = Map.of("boolValue", value);
+            } else {
+                typed = Map.of("stringValue", String.valueOf(value));
+            }
+            result.add(Map.of("key", key, "value", typed));
+        });
+        return result;
+    }
+    
+    /**
+     * Writes count and latency percentiles per command and caller,
+     * slowest total first
+     */
+    private void writeSummary() {
+        Map<String, LatencyHistogram> histograms = CommandTracer.getHistograms();
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort((a, b) -> Double.compare(total(b.getValue()), total(a.getValue())));
+        
+        outputDir.mkdirs();
+        File summary = new File(outputDir, "command-summary.txt");
+        try (PrintWriter out = new PrintWriter(new FileWriter(summary, StandardCharsets.UTF_8))) {
+            out.printf(Locale.ROOT, "%7s %10s %8s %8s %8s %8s %8s  %s%n",
+                "Count", "Total ms", "Mean ms", "P50 ms", "P95 ms", "P99 ms", "Max ms", "Command @ Caller");
+            for (Map.Entry<String, LatencyHistogram> entry : entries) {
+                LatencyHistogram h = entry.getValue();
+                out.printf(Locale.ROOT, "%7d %10.1f %8.2f %8.2f %8.2f %8.2f %8.2f  %s%n",
+                    h.getTotalCount(), total(h), h.getMeanMillis(), h.getValueAtPercentile(50),
+                    h.getValueAtPercentile(95), h.getValueAtPercentile(99), h.getMaxMillis(), entry.getKey());
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write command summary: " + e.getMessage());
+            return;
+        }
+        System.out.println("✓ WebDriver command traces written to " + outputDir.getPath());
+    }
+    
+    private static double total(LatencyHistogram histogram) {
+        return histogram.getMeanMillis() * histogram.getTotalCount();
+    }
+}
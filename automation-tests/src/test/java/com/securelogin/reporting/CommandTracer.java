@@ -0,0 +1,262 @@
+package com.securelogin.reporting;
+
+import com.securelogin.load.LatencyHistogram;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * WebDriver Command Tracer
+ * Records every WebDriver command issued while a scenario trace is active
+ * on the current thread as a span (scenario > step > command), tagged
+ * with the page-object method that issued it, e.g. LoginPage.isOnLoginPage.
+ * Latencies are also added to run-wide histograms per command and caller
+ * 
+ * Traces are started and exported by CommandTracePlugin; without an
+ * active trace the listener does nothing
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class CommandTracer implements WebDriverListener {
+    
+    private static final String PACKAGE = "com.securelogin.";
+    private static final String PAGES_PACKAGE = "com.securelogin.pages.";
+    private static final String REPORTING_PACKAGE = "com.securelogin.reporting.";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    
+    private static final ThreadLocal<Trace> ACTIVE = new ThreadLocal<>();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Trace trace = ACTIVE.get();
+        if (trace != null && trace.commandDepth++ == 0) {
+            trace.command = trace.startSpan(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+            trace.command.attributes.put("code.function", findCaller());
+        }
+    }
+    
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        endCommand(null);
+    }
+    
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        endCommand(e.getCause() != null ? e.getCause() : e);
+    }
+    
+    private void endCommand(Throwable error) {
+        Trace trace = ACTIVE.get();
+        if (trace == null || trace.commandDepth == 0 || --trace.commandDepth > 0) {
+            return;
+        }
+        Span span = trace.command;
+        trace.command = null;
+        span.end(trace, error);
+        HISTOGRAMS.computeIfAbsent(span.name + " @ " + span.attributes.get("code.function"),
+            key -> new LatencyHistogram()).recordNanos(span.endNanos - span.startNanos);
+    }
+    
+    /**
+     * Finds the outermost page-object method on the stack, or else the
+     * nearest framework class (hooks, DriverManager) that issued the command
+     * 
+     * @return Caller as SimpleClassName.method
+     */
+    private static String findCaller() {
+        return WALKER.walk(frames -> {
+            String pageMethod = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(PACKAGE) || className.startsWith(REPORTING_PACKAGE)
+                        || frame.getMethodName().startsWith("lambda$")) {
+                    continue;
+                }
+                String caller = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                if (className.startsWith(PAGES_PACKAGE)) {
+                    pageMethod = caller;
+                } else {
+                    return pageMethod != null ? pageMethod : caller;
+                }
+            }
+            return pageMethod != null ? pageMethod : "unknown";
+        });
+    }
+    
+    /**
+     * Starts a trace for a scenario on the current thread
+     * 
+     * @param scenarioName Scenario name, used as the root span name
+     * @param attributes Root span attributes
+     */
+    public static void startScenario(String scenarioName, Map<String, Object> attributes) {
+        Trace trace = new Trace();
+        trace.root = trace.startSpan(scenarioName);
+        trace.root.attributes.putAll(attributes);
+        ACTIVE.set(trace);
+    }
+    
+    /**
+     * Starts a step span; following commands become its children
+     * 
+     * @param stepText Step text
+     */
+    public static void startStep(String stepText) {
+        Trace trace = ACTIVE.get();
+        if (trace != null) {
+            trace.step = trace.startSpan(stepText);
+        }
+    }
+    
+    /**
+     * Ends the current step span
+     * 
+     * @param error Step failure, or null if it passed
+     */
+    public static void endStep(Throwable error) {
+        Trace trace = ACTIVE.get();
+        if (trace != null && trace.step != null) {
+            trace.step.end(trace, error);
+            trace.step = null;
+        }
+    }
+    
+    /**
+     * Ends the current thread's scenario trace
+     * 
+     * @param error Scenario failure, or null if it passed
+     * @return Finished spans, root first, or empty if no trace was active
+     */
+    public static Optional<List<Span>> finishScenario(Throwable error) {
+        Trace trace = ACTIVE.get();
+        if (trace == null) {
+            return Optional.empty();
+        }
+        ACTIVE.remove();
+        endStep(null);
+        trace.root.end(trace, error);
+        trace.root.attributes.put("webdriver.command.count", trace.spans.stream()
+            .filter(span -> span.attributes.containsKey("code.function")).count());
+        return Optional.of(trace.spans);
+    }
+    
+    /**
+     * Gets the run-wide latency histograms
+     * 
+     * @return Histograms keyed by "Command @ Caller"
+     */
+    public static Map<String, LatencyHistogram> getHistograms() {
+        return HISTOGRAMS;
+    }
+    
+    /**
+     * Spans of one scenario on one thread
+     */
+    private static final class Trace {
+        
+        private final String traceId = randomHex(16);
+        private final long epochNanos = toEpochNanos(Instant.now());
+        private final long startNanos = System.nanoTime();
+        private final List<Span> spans = new ArrayList<>();
+        private Span root;
+        private Span step;
+        private Span command;
+        private int commandDepth;
+        
+        Span startSpan(String name) {
+            Span parent = step != null ? step : root;
+            Span span = new Span(traceId, parent == null ? null : parent.spanId, name, wallClockNanos());
+            spans.add(span);
+            return span;
+        }
+        
+        long wallClockNanos() {
+            return epochNanos + (System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * One traced operation, in OpenTelemetry span terms
+     */
+    public static final class Span {
+        
+        private final String traceId;
+        private final String spanId = randomHex(8);
+        private final String parentSpanId;
+        private final String name;
+        private final long startNanos;
+        private long endNanos;
+        private String error;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        
+        Span(String traceId, String parentSpanId, String name, long startNanos) {
+            this.traceId = traceId;
+            this.parentSpanId = parentSpanId;
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+        
+        void end(Trace trace, Throwable failure) {
+            endNanos = trace.wallClockNanos();
+            if (failure != null) {
+                error = failure.getClass().getSimpleName()
+                    + (failure.getMessage() == null ? "" : ": " + failure.getMessage().lines().findFirst().orElse(""));
+            }
+        }
+        
+        public String getTraceId() {
+            return traceId;
+        }
+        
+        public String getSpanId() {
+            return spanId;
+        }
+        
+        public String getParentSpanId() {
+            return parentSpanId;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public long getStartNanos() {
+            return startNanos;
+        }
+        
+        public long getEndNanos() {
+            return endNanos;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+    }
+    
+    private static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+    
+    private static String randomHex(int bytes) {
+        StringBuilder hex = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i++) {
+            hex.append(String.format("%02x", ThreadLocalRandom.current().nextInt(256)));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,182 @@
+package com.securelogin.reporting;
+
+import com.securelogin.utils.ThreadSupport;
+import io.cucumber.java.Scenario;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Failure Artifacts
+ * Saves a screenshot, the DOM and the browser console of a failed
+ * scenario to <artifacts.dir>/<feature>-line<N>/. Only the browser
+ * round trips happen on the scenario thread; decoding, compressing and
+ * writing run on background writers, so teardown returns straight away
+ * 
+ * Captured data waiting to be written is capped by
+ * -Dartifacts.max.pending.mb (default 64); past that, teardown waits
+ * for the writers to catch up. The report links to the files
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public final class FailureArtifacts {
+    
+    private static final Path OUTPUT_DIR = Paths.get(System.getProperty("artifacts.dir", "target/failure-artifacts"));
+    // Report the links are relative to (cucumber.html of the browser runners)
+    private static final Path REPORT_DIR = Paths.get("target/cucumber-reports");
+    private static final int MAX_PENDING_KB = Integer.getInteger("artifacts.max.pending.mb", 64) * 1024;
+    private static final Semaphore PENDING = new Semaphore(MAX_PENDING_KB);
+    private static final ExecutorService WRITERS = Executors.newFixedThreadPool(
+        Integer.getInteger("artifacts.writers", 2), ThreadSupport.daemonThreadFactory("artifact-writer"));
+        
+    private static final AtomicInteger WRITTEN = new AtomicInteger();
+    private static final AtomicInteger FAILED = new AtomicInteger();
+    
+    private FailureArtifacts() {
+    }
+    
+    /**
+     * Captures the browser state of a failed scenario and queues it for writing
+     * Call before the driver is released
+     * 
+     * @param driver Scenario's WebDriver
+     * @param scenario Failed scenario, gets a link to the files
+     */
+    public static void capture(WebDriver driver, Scenario scenario) {
+        String screenshot = null;
+        String dom = null;
+        List<LogEntry> console = Collections.emptyList();
+        try {
+            // Base64 is what the driver sends; decoding is left to the writer
+            screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (WebDriverException | ClassCastException e) {
+            System.out.println("→ Screenshot failed: " + e.getClass().getSimpleName());
+        }
+        try {
+            dom = driver.getPageSource();
+        } catch (WebDriverException e) {
+            System.out.println("→ DOM capture failed: " + e.getClass().getSimpleName());
+        }
+        try {
+            console = driver.manage().logs().get(LogType.BROWSER).getAll();
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // Firefox has no log endpoint
+        }
+        
+        String name = scenarioDirectory(scenario);
+        Path dir = OUTPUT_DIR.resolve(name);
+        int kilobytes = Math.min(MAX_PENDING_KB, 1 + (length(screenshot) + length(dom) + console.size() * 200) / 1024);
+        if (!PENDING.tryAcquire(kilobytes)) {
+            System.out.println("→ Artifact writers busy, waiting for " + kilobytes + " KB of queue space");
+            PENDING.acquireUninterruptibly(kilobytes);
+        }
+        
+        String png = screenshot;
+        String html = dom;
+        List<LogEntry> logs = console;
+        WRITERS.execute(() -> {
+            try {
+                write(dir, scenario.getName(), png, html, logs);
+                WRITTEN.incrementAndGet();
+            } catch (IOException | IllegalArgumentException e) {
+                FAILED.incrementAndGet();
+                System.out.println("→ Could not write failure artifacts to " + dir + ": " + e.getMessage());
+            } finally {
+                PENDING.release(kilobytes);
+            }
+        });
+        
+        List<String> links = new ArrayList<>();
+        Path relative = REPORT_DIR.toAbsolutePath().relativize(dir.toAbsolutePath());
+        for (String file : new String[] {png != null ? "screenshot.png" : null, html != null ? "dom.html.gz" : null, "console.log"}) {
+            if (file != null) {
+                links.add(relative.resolve(file).toString().replace('\\', '/'));
+            }
+        }
+        scenario.attach(String.join("\n", links), "text/uri-list", "Failure artifacts");
+        System.out.println("✓ Failure artifacts queued: " + dir);
+    }
+    
+    private static void write(Path dir, String scenarioName, String png, String html, List<LogEntry> logs) throws IOException {
+        Files.createDirectories(dir);
+        if (png != null) {
+            Files.write(dir.resolve("screenshot.png"), Base64.getMimeDecoder().decode(png));
+        }
+        if (html != null) {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(dir.resolve("dom.html.gz")))) {
+                out.write(html.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        try (Writer file = Files.newBufferedWriter(dir.resolve("console.log"), StandardCharsets.UTF_8);
+                PrintWriter out = new PrintWriter(file)) {
+            out.println("# " + scenarioName);
+            for (LogEntry entry : logs) {
+                out.println(Instant.ofEpochMilli(entry.getTimestamp()) + " " + entry.getLevel() + " " + entry.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Waits for queued artifacts to be written
+     * Writers are daemon threads, so call this before the JVM exits
+     * 
+     * @param timeout Longest time to wait
+     */
+    public static void awaitWritten(Duration timeout) {
+        // Queued writes hold their share of the memory budget until done
+        try {
+            if (PENDING.tryAcquire(MAX_PENDING_KB, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                PENDING.release(MAX_PENDING_KB);
+            } else {
+                System.out.println("→ Failure artifacts still being written after " + timeout.getSeconds() + " s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (WRITTEN.get() > 0 || FAILED.get() > 0) {
+            System.out.println("✓ Failure artifacts: " + WRITTEN.get() + " scenarios written to " + OUTPUT_DIR
+                + (FAILED.get() > 0 ? ", " + FAILED.get() + " failed" : ""));
+        }
+    }
+    
+    /**
+     * Directory name for a scenario, same scheme as the command traces
+     * 
+     * @param scenario Scenario
+     * @return e.g. "01_functional_login-line10"
+     */
+    private static String scenarioDirectory(Scenario scenario) {
+        String path = scenario.getUri().getSchemeSpecificPart();
+        String feature = path.substring(path.lastIndexOf('/') + 1).replace(".feature", "");
+        return feature + "-line" + scenario.getLine();
+    }
+    
+    private static int length(String text) {
+        return text == null ? 0 : text.length();
+    }
+}
@@ -0,0 +1,95 @@
+package com.securelogin.reporting;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Page Load Timings
+ * Times every navigation to the login page, from driver.get() until the
+ * document is complete, and keeps the average of the last run per browser
+ * and profile in target/page-load-times.properties (-Dpage.load.history)
+ * so a lean run can be compared with a standard one
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public final class PageLoadTimings {
+    
+    private static final Path HISTORY = Paths.get(System.getProperty("page.load.history",
+        "target/page-load-times.properties"));
+    
+    private static final AtomicLong COUNT = new AtomicLong();
+    private static final AtomicLong TOTAL_NANOS = new AtomicLong();
+    private static final AtomicLong MAX_NANOS = new AtomicLong();
+    
+    private PageLoadTimings() {
+    }
+    
+    /**
+     * Adds the time of one page load
+     * 
+     * @param nanos Load duration in nanoseconds
+     */
+    public static void record(long nanos) {
+        COUNT.incrementAndGet();
+        TOTAL_NANOS.addAndGet(nanos);
+        MAX_NANOS.accumulateAndGet(nanos, Math::max);
+    }
+    
+    /**
+     * Prints this run's page load times next to the last run of the other
+     * profile on the same browser, then stores this run's average
+     * 
+     * @param browser Browser name
+     * @param profile Browser profile, "standard" or "lean"
+     */
+    public static void printSummary(String browser, String profile) {
+        long count = COUNT.get();
+        if (count == 0) {
+            return;
+        }
+        long avgMs = TimeUnit.NANOSECONDS.toMillis(TOTAL_NANOS.get() / count);
+        long maxMs = TimeUnit.NANOSECONDS.toMillis(MAX_NANOS.get());
+        
+        Properties history = new Properties();
+        if (Files.isRegularFile(HISTORY)) {
+            try (InputStream in = Files.newInputStream(HISTORY)) {
+                history.load(in);
+            } catch (IOException e) {
+                System.err.println("Could not read page load history: " + e.getMessage());
+            }
+        }
+        
+        String other = "lean".equals(profile) ? "standard" : "lean";
+        String otherAvg = history.getProperty(browser + "." + other + ".avg.ms");
+        StringBuilder summary = new StringBuilder("Page loads: " + count + ", avg " + avgMs
+            + " ms, max " + maxMs + " ms (" + browser + ", " + profile + " profile)");
+        if (otherAvg != null) {
+            long baselineMs = Long.parseLong(otherAvg);
+            summary.append("; last ").append(other).append(" run averaged ").append(baselineMs).append(" ms");
+            if (baselineMs > 0) {
+                summary.append(String.format(" (%+d%%)", Math.round(100.0 * (avgMs - baselineMs) / baselineMs)));
+            }
+        }
+        System.out.println(summary);
+        
+        history.setProperty(browser + "." + profile + ".avg.ms", Long.toString(avgMs));
+        try {
+            if (HISTORY.getParent() != null) {
+                Files.createDirectories(HISTORY.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(HISTORY)) {
+                history.store(out, "Average page load time of the last run per browser and profile");
+            }
+        } catch (IOException e) {
+            System.err.println("Could not save page load history: " + e.getMessage());
+        }
+    }
+}
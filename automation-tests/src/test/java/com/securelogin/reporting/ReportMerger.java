@@ -0,0 +1,265 @@
+package com.securelogin.reporting;
+
+import org.openqa.selenium.json.Json;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Report Merger
+ * Combines the Cucumber reports of sharded runs (-Dshard=i/K) into one set:
+ * - cucumber.json: features merged by URI, scenarios in file order
+ * - cucumber.xml: one JUnit test suite with all test cases and summed totals
+ * - cucumber.html: summary of every scenario, linking to each shard's
+ *   full HTML report (copied alongside as shard-N.html)
+ * 
+ * Usage: ReportMerger <output-dir> <shard-report-dir>...
+ * or mvn test -Pmerge-reports -Dmerge.inputs=shard-1,shard-2 [-Dmerge.output=dir]
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ReportMerger {
+    
+    private static final Json JSON = new Json();
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ReportMerger <output-dir> <shard-report-dir>[,<shard-report-dir>...]");
+            System.exit(1);
+        }
+        Path output = Paths.get(args[0]);
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            for (String dir : args[i].split(",")) {
+                if (!dir.trim().isEmpty()) {
+                    inputs.add(Paths.get(dir.trim()));
+                }
+            }
+        }
+        Files.createDirectories(output);
+        
+        List<Map<String, Object>> features = mergeJson(inputs, output.resolve("cucumber.json"));
+        mergeJunit(inputs, output.resolve("cucumber.xml"));
+        writeHtml(inputs, features, output);
+        System.out.println("✓ Merged " + inputs.size() + " shard reports into " + output);
+    }
+    
+    /**
+     * Merges Cucumber JSON reports, combining features that were split across shards
+     * 
+     * @param inputs Shard report directories
+     * @param target Merged cucumber.json
+     * @return Merged features
+     * @throws IOException if a report cannot be read or written
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> mergeJson(List<Path> inputs, Path target) throws IOException {
+        Map<String, Map<String, Object>> byUri = new LinkedHashMap<>();
+        Map<String, List<List<Map<String, Object>>>> scenarios = new LinkedHashMap<>();
+        for (Path input : inputs) {
+            Path report = input.resolve("cucumber.json");
+            if (!Files.isRegularFile(report)) {
+                System.err.println("→ No cucumber.json in " + input + ", skipping");
+                continue;
+            }
+            List<Map<String, Object>> features = JSON.toType(
+                new String(Files.readAllBytes(report), StandardCharsets.UTF_8), List.class);
+            for (Map<String, Object> feature : features) {
+                String uri = String.valueOf(feature.get("uri"));
+                byUri.putIfAbsent(uri, new LinkedHashMap<>(feature));
+                // Keep each scenario together with the background reported before it
+                List<Map<String, Object>> group = new ArrayList<>();
+                for (Map<String, Object> element : (List<Map<String, Object>>) feature.getOrDefault("elements", List.of())) {
+                    group.add(element);
+                    if (!"background".equals(element.get("type"))) {
+                        scenarios.computeIfAbsent(uri, key -> new ArrayList<>()).add(group);
+                        group = new ArrayList<>();
+                    }
+                }
+            }
+        }
+        
+        List<Map<String, Object>> merged = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> entry : byUri.entrySet()) {
+            List<List<Map<String, Object>>> groups = scenarios.getOrDefault(entry.getKey(), new ArrayList<>());
+            groups.sort(Comparator.comparingInt(group -> ((Number) group.get(group.size() - 1).get("line")).intValue()));
+            List<Map<String, Object>> elements = new ArrayList<>();
+            groups.forEach(elements::addAll);
+            Map<String, Object> feature = entry.getValue();
+            feature.put("elements", elements);
+            merged.add(feature);
+        }
+        merged.sort(Comparator.comparing(feature -> String.valueOf(feature.get("uri"))));
+        Files.write(target, JSON.toJson(merged).getBytes(StandardCharsets.UTF_8));
+        return merged;
+    }
+    
+    /**
+     * Merges JUnit XML reports into a single test suite
+     * 
+     * @param inputs Shard report directories
+     * @param target Merged cucumber.xml
+     * @throws Exception if a report cannot be parsed or written
+     */
+    static void mergeJunit(List<Path> inputs, Path target) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document merged = factory.newDocumentBuilder().newDocument();
+        Element suite = merged.createElement("testsuite");
+        suite.setAttribute("name", "Cucumber");
+        merged.appendChild(suite);
+        
+        double time = 0;
+        int[] totals = new int[4];
+        String[] counters = {"tests", "skipped", "failures", "errors"};
+        for (Path input : inputs) {
+            File report = input.resolve("cucumber.xml").toFile();
+            if (!report.isFile()) {
+                continue;
+            }
+            Element shardSuite = factory.newDocumentBuilder().parse(report).getDocumentElement();
+            time = Math.max(time, parseDouble(shardSuite.getAttribute("time")));
+            for (int i = 0; i < counters.length; i++) {
+                totals[i] += (int) parseDouble(shardSuite.getAttribute(counters[i]));
+            }
+            NodeList children = shardSuite.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                if (child.getNodeType() == Node.ELEMENT_NODE) {
+                    suite.appendChild(merged.importNode(child, true));
+                }
+            }
+        }
+        // Shards run side by side, so the suite time is the slowest shard's, not the sum
+        suite.setAttribute("time", String.format(Locale.ROOT, "%.3f", time));
+        for (int i = 0; i < counters.length; i++) {
+            suite.setAttribute(counters[i], Integer.toString(totals[i]));
+        }
+        
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.transform(new DOMSource(merged), new StreamResult(target.toFile()));
+    }
+    
+    /**
+     * Writes an HTML summary of the merged run and copies each shard's HTML report
+     * 
+     * @param inputs Shard report directories
+     * @param features Merged features
+     * @param output Output directory
+     * @throws IOException if the report cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    static void writeHtml(List<Path> inputs, List<Map<String, Object>> features, Path output) throws IOException {
+        StringBuilder rows = new StringBuilder();
+        int passed = 0;
+        int failed = 0;
+        for (Map<String, Object> feature : features) {
+            for (Map<String, Object> element : (List<Map<String, Object>>) feature.getOrDefault("elements", List.of())) {
+                if ("background".equals(element.get("type"))) {
+                    continue;
+                }
+                String status = scenarioStatus(element);
+                if ("passed".equals(status)) {
+                    passed++;
+                } else if ("failed".equals(status)) {
+                    failed++;
+                }
+                rows.append("<tr class=\"").append(status).append("\"><td>").append(escape(feature.get("name")))
+                    .append("</td><td>").append(escape(element.get("name")))
+                    .append("</td><td>").append(status)
+                    .append("</td><td>").append(String.format(Locale.ROOT, "%.2f", scenarioNanos(element) / 1e9))
+                    .append("</td></tr>\n");
+            }
+        }
+        
+        StringBuilder links = new StringBuilder();
+        for (int i = 0; i < inputs.size(); i++) {
+            Path html = inputs.get(i).resolve("cucumber.html");
+            if (Files.isRegularFile(html)) {
+                String name = "shard-" + (i + 1) + ".html";
+                Files.copy(html, output.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                links.append("<li><a href=\"").append(name).append("\">").append(escape(inputs.get(i)))
+                    .append("</a></li>\n");
+            }
+        }
+        
+        String page = "<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"UTF-8\">\n"
+            + "<title>Cucumber Report (merged shards)</title>\n<style>\n"
+            + "body { font-family: sans-serif; margin: 2rem; }\n"
+            + "table { border-collapse: collapse; } td, th { padding: 4px 12px; border-bottom: 1px solid #ddd; text-align: left; }\n"
+            + "tr.passed td:nth-child(3) { color: #2e7d32; } tr.failed td:nth-child(3) { color: #c62828; font-weight: bold; }\n"
+            + "tr.skipped td:nth-child(3), tr.undefined td:nth-child(3) { color: #f9a825; }\n"
+            + "</style>\n</head>\n<body>\n<h1>Cucumber Report (merged shards)</h1>\n"
+            + "<p>" + (passed + failed) + " scenarios run: " + passed + " passed, " + failed + " failed</p>\n"
+            + "<h2>Shard reports</h2>\n<ul>\n" + links + "</ul>\n"
+            + "<h2>Scenarios</h2>\n<table>\n<tr><th>Feature</th><th>Scenario</th><th>Status</th><th>Seconds</th></tr>\n"
+            + rows + "</table>\n</body>\n</html>\n";
+        Files.write(output.resolve("cucumber.html"), page.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static String scenarioStatus(Map<String, Object> element) {
+        String status = "passed";
+        for (String part : new String[] {"before", "steps", "after"}) {
+            for (Map<String, Object> step : (List<Map<String, Object>>) element.getOrDefault(part, List.of())) {
+                Object result = ((Map<String, Object>) step.getOrDefault("result", Map.of())).get("status");
+                if ("failed".equals(result)) {
+                    return "failed";
+                }
+                if (result != null && !"passed".equals(result)) {
+                    status = result.toString();
+                }
+            }
+        }
+        return status;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static long scenarioNanos(Map<String, Object> element) {
+        long total = 0;
+        for (String part : new String[] {"before", "steps", "after"}) {
+            for (Map<String, Object> step : (List<Map<String, Object>>) element.getOrDefault(part, List.of())) {
+                Object duration = ((Map<String, Object>) step.getOrDefault("result", Map.of())).get("duration");
+                if (duration instanceof Number) {
+                    total += ((Number) duration).longValue();
+                }
+            }
+        }
+        return total;
+    }
+    
+    private static double parseDouble(String value) {
+        try {
+            return value == null || value.isEmpty() ? 0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    private static String escape(Object value) {
+        return String.valueOf(value).replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
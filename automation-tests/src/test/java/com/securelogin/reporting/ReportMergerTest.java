@@ -0,0 +1,135 @@
+package com.securelogin.reporting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.json.Json;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Report Merger Test
+ * Merging the JSON and JUnit reports of sharded runs
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+class ReportMergerTest {
+    
+    private static final String LOGIN = "classpath:features/01_functional_login.feature";
+    private static final String BOUNDARY = "classpath:features/02_boundary_testing.feature";
+    
+    @TempDir
+    Path dir;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void featuresSplitAcrossShardsAreJoinedInFileOrder() throws IOException {
+        Path shard1 = shard("shard-1", "cucumber.json", "["
+            + feature(BOUNDARY, scenario(20))
+            + "," + feature(LOGIN, background() + scenario(26) + "," + background() + scenario(9))
+            + "]");
+        Path shard2 = shard("shard-2", "cucumber.json", "["
+            + feature(LOGIN, background() + scenario(17))
+            + "]");
+        Path target = dir.resolve("cucumber.json");
+        
+        List<Map<String, Object>> merged = ReportMerger.mergeJson(List.of(shard1, shard2), target);
+        
+        assertEquals(List.of(LOGIN, BOUNDARY), List.of(merged.get(0).get("uri"), merged.get(1).get("uri")));
+        List<Map<String, Object>> login = (List<Map<String, Object>>) merged.get(0).get("elements");
+        // Each scenario keeps the background reported before it
+        assertEquals(List.of("background:6", "scenario:9", "background:6", "scenario:17", "background:6", "scenario:26"),
+            elements(login));
+        assertEquals(List.of("scenario:20"), elements((List<Map<String, Object>>) merged.get(1).get("elements")));
+        
+        List<Map<String, Object>> written = new Json().toType(
+            new String(Files.readAllBytes(target), StandardCharsets.UTF_8), List.class);
+        assertEquals(2, written.size());
+        assertEquals(6, ((List<?>) written.get(0).get("elements")).size());
+    }
+    
+    @Test
+    void shardWithoutJsonReportIsSkipped() throws IOException {
+        Path shard1 = shard("shard-1", "cucumber.json", "[" + feature(LOGIN, scenario(9)) + "]");
+        Path empty = Files.createDirectories(dir.resolve("shard-2"));
+        
+        List<Map<String, Object>> merged = ReportMerger.mergeJson(List.of(shard1, empty), dir.resolve("cucumber.json"));
+        
+        assertEquals(1, merged.size());
+    }
+    
+    @Test
+    void junitSuitesAreCombinedWithSummedCounts() throws Exception {
+        Path shard1 = shard("shard-1", "cucumber.xml", suite(3, 1, 1, 0, "12.5",
+            "<testcase classname=\"Login\" name=\"a\" time=\"1\"/>"
+            + "<testcase classname=\"Login\" name=\"b\" time=\"2\"><failure message=\"x\"/></testcase>"
+            + "<testcase classname=\"Login\" name=\"c\" time=\"0\"><skipped/></testcase>"));
+        Path shard2 = shard("shard-2", "cucumber.xml", suite(2, 0, 0, 1, "20.25",
+            "<testcase classname=\"Boundary\" name=\"d\" time=\"4\"/>"
+            + "<testcase classname=\"Boundary\" name=\"e\" time=\"5\"><error message=\"y\"/></testcase>"));
+        Path missing = dir.resolve("shard-3");
+        Path target = dir.resolve("cucumber.xml");
+        
+        ReportMerger.mergeJunit(List.of(shard1, shard2, missing), target);
+        
+        Element suite = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(target.toFile()).getDocumentElement();
+        assertEquals("testsuite", suite.getTagName());
+        assertEquals("5", suite.getAttribute("tests"));
+        assertEquals("1", suite.getAttribute("skipped"));
+        assertEquals("1", suite.getAttribute("failures"));
+        assertEquals("1", suite.getAttribute("errors"));
+        // Shards run side by side: the slowest shard's time, not the sum
+        assertEquals("20.250", suite.getAttribute("time"));
+        NodeList cases = suite.getElementsByTagName("testcase");
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < cases.getLength(); i++) {
+            names.add(((Element) cases.item(i)).getAttribute("name"));
+        }
+        assertEquals(List.of("a", "b", "c", "d", "e"), names);
+        assertEquals(1, suite.getElementsByTagName("failure").getLength());
+    }
+    
+    private Path shard(String name, String file, String content) throws IOException {
+        Path shard = Files.createDirectories(dir.resolve(name));
+        Files.write(shard.resolve(file), content.getBytes(StandardCharsets.UTF_8));
+        return shard;
+    }
+    
+    private static String feature(String uri, String elements) {
+        return "{\"uri\": \"" + uri + "\", \"name\": \"" + uri + "\", \"elements\": [" + elements + "]}";
+    }
+    
+    private static String background() {
+        return "{\"type\": \"background\", \"line\": 6, \"steps\": []},";
+    }
+    
+    private static String scenario(int line) {
+        return "{\"type\": \"scenario\", \"line\": " + line + ", \"name\": \"line " + line + "\", \"steps\": []}";
+    }
+    
+    private static String suite(int tests, int skipped, int failures, int errors, String time, String cases) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<testsuite name=\"Cucumber\" tests=\"" + tests + "\" skipped=\"" + skipped + "\" failures=\"" + failures
+            + "\" errors=\"" + errors + "\" time=\"" + time + "\">" + cases + "</testsuite>";
+    }
+    
+    private static List<String> elements(List<Map<String, Object>> elements) {
+        List<String> result = new ArrayList<>();
+        for (Map<String, Object> element : elements) {
+            result.add(element.get("type") + ":" + ((Number) element.get("line")).intValue());
+        }
+        return result;
+    }
+}
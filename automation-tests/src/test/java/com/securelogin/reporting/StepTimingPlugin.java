@@ -0,0 +1,213 @@
+package com.securelogin.reporting;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Step Timing Plugin
+ * Records the wall time of every step, grouped by step definition, and
+ * splits it into WebDriver command time, wait/sleep time and the rest
+ * (page-object and assertion code). At the end of the run it writes:
+ * - slow-steps.txt: step definitions ranked by total time
+ * - step-timings.csv: one row per step definition, appended on every
+ *   run so results can be trended
+ * 
+ * Register with plugin "com.securelogin.reporting.StepTimingPlugin:<dir>"
+ * Number of ranked steps is set with -Dstep.timings.top (default 10)
+ * 
+ * Listens concurrently so step events arrive on the scenario's own
+ * thread, where StepTimings accumulates
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class StepTimingPlugin implements ConcurrentEventListener {
+    
+    private static final int TOP_STEPS = Integer.getInteger("step.timings.top", 10);
+    private static final String CSV_HEADER = "run,step,calls,failed,total_ms,mean_ms,p95_ms,max_ms,command_ms,wait_ms,other_ms";
+    
+    private final File outputDir;
+    private final Map<String, StepStats> stats = new ConcurrentHashMap<>();
+    
+    /**
+     * Constructor
+     * 
+     * @param outputDir Directory for the report and CSV
+     */
+    public StepTimingPlugin(File outputDir) {
+        this.outputDir = outputDir;
+    }
+    
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeReports(event.getInstant()));
+    }
+    
+    private void onStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            StepTimings.reset();
+        }
+    }
+    
+    private void onStepFinished(TestStepFinished event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+        PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+        stats.computeIfAbsent(step.getPattern(), StepStats::new).add(
+            event.getResult().getDuration().toNanos(),
+            StepTimings.getCommandNanos(),
+            StepTimings.getWaitNanos(),
+            event.getResult().getStatus().is(Status.FAILED));
+    }
+    
+    /**
+     * Writes the ranked report and appends to the CSV
+     * 
+     * @param runFinished Time the run finished, used as the CSV run id
+     */
+    private void writeReports(Instant runFinished) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<StepStats> ranked = new ArrayList<>(stats.values());
+        ranked.sort(Comparator.comparingLong(StepStats::getTotalNanos).reversed());
+        outputDir.mkdirs();
+        
+        File report = new File(outputDir, "slow-steps.txt");
+        try (PrintWriter out = new PrintWriter(new FileWriter(report))) {
+            out.println("Top slow steps by total wall time (" + ranked.size() + " step definitions)");
+            out.println();
+            out.printf(Locale.ROOT, "%4s %6s %10s %9s %9s %9s %6s %6s %6s  %s%n",
+                "Rank", "Calls", "Total ms", "Mean ms", "P95 ms", "Max ms", "Cmd%", "Wait%", "Other%", "Step");
+            for (int i = 0; i < Math.min(TOP_STEPS, ranked.size()); i++) {
+                StepStats s = ranked.get(i);
+                out.printf(Locale.ROOT, "%4d %6d %10.1f %9.1f %9.1f %9.1f %6.1f %6.1f %6.1f  %s%n",
+                    i + 1, s.getCalls(), ms(s.getTotalNanos()), ms(s.getMeanNanos()), ms(s.getP95Nanos()),
+                    ms(s.getMaxNanos()), s.percentOf(s.getCommandNanos()), s.percentOf(s.getWaitNanos()),
+                    s.percentOf(s.getOtherNanos()), s.getPattern());
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write step timing report: " + e.getMessage());
+            return;
+        }
+        
+        File csv = new File(outputDir, "step-timings.csv");
+        boolean newFile = !csv.exists();
+        try (PrintWriter out = new PrintWriter(new FileWriter(csv, true))) {
+            if (newFile) {
+                out.println(CSV_HEADER);
+            }
+            for (StepStats s : ranked) {
+                out.printf(Locale.ROOT, "%s,\"%s\",%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f%n",
+                    runFinished, s.getPattern().replace("\"", "\"\""), s.getCalls(), s.getFailed(),
+                    ms(s.getTotalNanos()), ms(s.getMeanNanos()), ms(s.getP95Nanos()), ms(s.getMaxNanos()),
+                    ms(s.getCommandNanos()), ms(s.getWaitNanos()), ms(s.getOtherNanos()));
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write step timing CSV: " + e.getMessage());
+            return;
+        }
+        System.out.println("✓ Step timings written to " + report.getPath() + " and " + csv.getPath());
+    }
+    
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    /**
+     * Timings of all executions of one step definition
+     */
+    private static final class StepStats {
+        
+        private final String pattern;
+        private final List<Long> wallNanos = new ArrayList<>();
+        private long totalNanos;
+        private long commandNanos;
+        private long waitNanos;
+        private int failed;
+        
+        StepStats(String pattern) {
+            this.pattern = pattern;
+        }
+        
+        synchronized void add(long wall, long command, long wait, boolean stepFailed) {
+            wallNanos.add(wall);
+            totalNanos += wall;
+            commandNanos += command;
+            waitNanos += wait;
+            if (stepFailed) {
+                failed++;
+            }
+        }
+        
+        String getPattern() {
+            return pattern;
+        }
+        
+        synchronized int getCalls() {
+            return wallNanos.size();
+        }
+        
+        synchronized int getFailed() {
+            return failed;
+        }
+        
+        synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+        
+        synchronized long getCommandNanos() {
+            return commandNanos;
+        }
+        
+        synchronized long getWaitNanos() {
+            return waitNanos;
+        }
+        
+        synchronized long getOtherNanos() {
+            return Math.max(0, totalNanos - commandNanos - waitNanos);
+        }
+        
+        synchronized long getMeanNanos() {
+            return wallNanos.isEmpty() ? 0 : totalNanos / wallNanos.size();
+        }
+        
+        synchronized long getMaxNanos() {
+            return wallNanos.isEmpty() ? 0 : Collections.max(wallNanos);
+        }
+        
+        synchronized long getP95Nanos() {
+            if (wallNanos.isEmpty()) {
+                return 0;
+            }
+            List<Long> sorted = new ArrayList<>(wallNanos);
+            Collections.sort(sorted);
+            return sorted.get((int) Math.ceil(sorted.size() * 0.95) - 1);
+        }
+        
+        synchronized double percentOf(long nanos) {
+            return totalNanos == 0 ? 0 : nanos * 100.0 / totalNanos;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.securelogin.reporting;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Step Timings
+ * Per-thread accumulators that split the current step's time into
+ * WebDriver command time and wait/sleep time. WebDriver commands are
+ * reported by CommandTimingListener, waits by the page objects. Inside a
+ * timed wait, e.g. a WebDriverWait, the commands it polls with and its
+ * sleeps are part of the wait and counted once as wait time
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public final class StepTimings {
+    
+    private static final ThreadLocal<StepTimings> CURRENT = ThreadLocal.withInitial(StepTimings::new);
+    
+    private long commandNanos;
+    private long waitNanos;
+    private int waitDepth;
+    
+    private StepTimings() {
+    }
+    
+    /**
+     * Clears the current thread's accumulators at the start of a step
+     */
+    public static void reset() {
+        StepTimings timings = CURRENT.get();
+        timings.commandNanos = 0;
+        timings.waitNanos = 0;
+        timings.waitDepth = 0;
+    }
+    
+    /**
+     * Adds the time of one WebDriver command
+     * Commands issued inside a timed wait count as wait time instead
+     * 
+     * @param nanos Command duration in nanoseconds
+     */
+    public static void recordCommand(long nanos) {
+        StepTimings timings = CURRENT.get();
+        if (timings.waitDepth == 0) {
+            timings.commandNanos += nanos;
+        }
+    }
+    
+    /**
+     * Adds time spent waiting or sleeping
+     * Time inside a timed wait is already counted by the wait itself
+     * 
+     * @param nanos Wait duration in nanoseconds
+     */
+    public static void recordWait(long nanos) {
+        StepTimings timings = CURRENT.get();
+        if (timings.waitDepth == 0) {
+            timings.waitNanos += nanos;
+        }
+    }
+    
+    /**
+     * Sleeps and records the time as wait time
+     * Matches org.openqa.selenium.support.ui.Sleeper, so WebDriverWait
+     * polling intervals are counted too
+     * 
+     * @param duration How long to sleep
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    public static void sleep(Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(duration.toMillis());
+        } finally {
+            recordWait(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Runs a call that blocks until the page reaches a state, e.g. an async
+     * script, and records all of its time as wait time
+     * 
+     * @param wait Blocking call
+     * @return Result of the call
+     */
+    public static <T> T timeWait(Supplier<T> wait) {
+        StepTimings timings = CURRENT.get();
+        long start = System.nanoTime();
+        timings.waitDepth++;
+        try {
+            return wait.get();
+        } finally {
+            timings.waitDepth--;
+            timings.waitNanos += System.nanoTime() - start;
+        }
+    }
+    
+    /**
+     * Gets the WebDriver command time of the current step
+     * 
+     * @return Command time in nanoseconds
+     */
+    public static long getCommandNanos() {
+        return CURRENT.get().commandNanos;
+    }
+    
+    /**
+     * Gets the wait/sleep time of the current step
+     * 
+     * @return Wait time in nanoseconds
+     */
+    public static long getWaitNanos() {
+        return CURRENT.get().waitNanos;
+    }
+}
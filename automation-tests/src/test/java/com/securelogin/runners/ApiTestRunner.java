@@ -0,0 +1,37 @@
+package com.securelogin.runners;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+import static io.cucumber.junit.platform.engine.Constants.FILTER_TAGS_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+/**
+ * API-tier Cucumber Test Runner
+ * Runs the scenarios tagged @api against /api/auth/login over HTTP,
+ * using the step definitions in the apisteps package - no browser
+ * 
+ * Run Configuration:
+ * - Activated with: mvn test -Papi
+ * - Needs only the backend (api.url in config.properties)
+ * - Reports are written to target/cucumber-reports/api/
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.securelogin.apisteps")
+@ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME, value = "@api")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty,"
+        + "html:target/cucumber-reports/api/cucumber.html,"
+        + "json:target/cucumber-reports/api/cucumber.json,"
+        + "junit:target/cucumber-reports/api/cucumber.xml,"
+        + "com.securelogin.scheduling.ImpactMapPlugin:target/impact-map.json")
+public class ApiTestRunner {
+    // This class is empty - the JUnit Platform uses annotations to run tests
+}
@@ -0,0 +1,50 @@
+package com.securelogin.runners;
+
+import com.securelogin.scheduling.OrderedCucumberEngine;
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+/**
+ * Parallel Cucumber Test Runner
+ * Runs all feature files on the JUnit Platform Cucumber engine,
+ * executing scenarios concurrently on a pool of worker threads
+ * 
+ * Run Configuration:
+ * - Activated with: mvn test -Pparallel
+ * - Parallelism is read from junit-platform.properties and can be
+ *   overridden on the command line:
+ *     -Dcucumber.execution.parallel.config.strategy=dynamic|fixed
+ *     -Dcucumber.execution.parallel.config.dynamic.factor=1
+ *     -Dcucumber.execution.parallel.config.fixed.parallelism=4
+ * - Each worker checks out its own browser from DriverManager, so
+ *   keep -Ddriver.pool.size at or above the parallelism
+ * - -Ddriver.autoscale=true resizes the browser pool to host memory
+ *   and CPU; set the parallelism to the largest pool size allowed
+ * - HTML, JSON and JUnit reports are written in canonical scenario
+ *   order, so they match the serial runner's reports
+ * - -Dscenario.order=history runs last run's failures first, then the
+ *   longest scenarios, see OrderedCucumberEngine
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+@Suite
+@IncludeEngines(OrderedCucumberEngine.ENGINE_ID)
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = OrderedCucumberEngine.ENABLED_PROPERTY_NAME, value = "true")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.securelogin.steps")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty,"
+        + "html:target/cucumber-reports/cucumber.html,"
+        + "json:target/cucumber-reports/cucumber.json,"
+        + "junit:target/cucumber-reports/cucumber.xml,"
+        + "com.securelogin.reporting.StepTimingPlugin:target/step-timings,"
+        + "com.securelogin.reporting.CommandTracePlugin:target/command-traces,"
+        + "com.securelogin.scheduling.ImpactMapPlugin:target/impact-map.json")
+public class ParallelTestRunner {
+    // This class is empty - the JUnit Platform uses annotations to run tests
+}
@@ -30,7 +30,10 @@ import org.junit.runner.RunWith;
         "pretty",                                           // Readable console output
         "html:target/cucumber-reports/cucumber.html",      // HTML report
         "json:target/cucumber-reports/cucumber.json",      // JSON report
-        "junit:target/cucumber-reports/cucumber.xml"       // XML report
+        "junit:target/cucumber-reports/cucumber.xml",      // XML report
+        "com.securelogin.reporting.StepTimingPlugin:target/step-timings", // Slow-step report and CSV
+        "com.securelogin.reporting.CommandTracePlugin:target/command-traces", // WebDriver command traces
+        "com.securelogin.scheduling.ImpactMapPlugin:target/impact-map.json" // Scenario dependencies for -Dimpact.diff
     },
     
     // Only run scenarios with these tags (comment out to run all)
@@ -0,0 +1,93 @@
+package com.securelogin.scheduling;
+
+import com.securelogin.backend.LoginService;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Backend Rule
+ * The stages a request passes through in backend/server.js, in the order
+ * the login route checks them. A login that ends at one stage has run
+ * every stage before it, so a change to any of those can change its result
+ * 
+ * Each stage lists markers (messages and identifiers) that appear in its
+ * part of server.js, used to map changed lines back to stages
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public enum BackendRule {
+    
+    HEALTH("/api/health"),
+    VALIDATION("loginValidation", "validationResult", "errorMessages", "Username is required",
+        "Username must be between 1 and 255 characters", "Username contains invalid characters",
+        "Invalid characters detected in username", "Password is required",
+        "Password must be between 6 and 128 characters", "Invalid characters detected in password"),
+    LENGTH_CHECKS("Username and password are required", "Username exceeds maximum length",
+        "Password must be at least 6 characters", "Password exceeds maximum length"),
+    SQL_INJECTION("sqlInjectionPattern", "Invalid credentials format detected"),
+    XSS("xssPattern", "Invalid characters in credentials"),
+    CREDENTIALS("findUser", "verifyPassword", "Invalid username or password"),
+    SUCCESS("userWithoutPassword", "Login successful");
+    
+    private final List<String> markers;
+    
+    BackendRule(String... markers) {
+        this.markers = Arrays.asList(markers);
+    }
+    
+    /**
+     * Stages a login with this result went through
+     * 
+     * @param result Result from LoginService, which mirrors server.js
+     * @return Stages from validation up to the one that decided the result
+     */
+    public static Set<BackendRule> exercisedBy(LoginService.Result result) {
+        Object message = result.getBody().get("message");
+        BackendRule decided;
+        switch (result.getStatus()) {
+            case 200:
+                decided = SUCCESS;
+                break;
+            case 401:
+                decided = CREDENTIALS;
+                break;
+            case 403:
+                decided = XSS.markers.contains(message) ? XSS : SQL_INJECTION;
+                break;
+            default:
+                decided = VALIDATION;
+        }
+        return EnumSet.range(VALIDATION, decided);
+    }
+    
+    /**
+     * Stages of the login route
+     * 
+     * @return Every stage except the health check
+     */
+    public static Set<BackendRule> login() {
+        return EnumSet.range(VALIDATION, SUCCESS);
+    }
+    
+    /**
+     * Finds the stage a line of server.js belongs to
+     * 
+     * @param line Source line
+     * @return Stage whose marker appears in the line
+     */
+    static Optional<BackendRule> markedBy(String line) {
+        for (BackendRule rule : values()) {
+            for (String marker : rule.markers) {
+                if (line.contains(marker)) {
+                    return Optional.of(rule);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
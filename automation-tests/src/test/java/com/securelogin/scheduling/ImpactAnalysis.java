@@ -0,0 +1,558 @@
+package com.securelogin.scheduling;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Impact Analysis
+ * Works out which scenarios a git diff can affect, using the impact map:
+ * - frontend/src components: a changed element selects the scenarios that
+ *   locate its id or classes or those of any element nested in it; other
+ *   changed code selects every scenario locating something in that file
+ * - frontend/src stylesheets: a changed rule selects the scenarios that
+ *   locate its class or id, an element using it, or anything nested in
+ *   such an element; rules on element selectors select every browser
+ *   scenario, and rules that reach no tracked element only select the
+ *   @ui scenarios
+ * - backend/server.js: changed lines are mapped to the login stage they
+ *   belong to, selecting the scenarios whose logins reached that stage
+ * - feature files: every scenario in the file
+ * - documentation, benchmarks and the Logintesing module: nothing
+ * - anything else (test code, build files, other frontend files): every
+ *   scenario, or every browser/backend scenario for its side
+ * Comment and whitespace changes are ignored. Scenarios missing from the
+ * impact map are always selected
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ImpactAnalysis {
+    
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))?");
+    private static final Pattern DECLARATION = Pattern.compile("^(?:const|let|var|function)\\s+(\\w+)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*'|\"[^\"]*\"|`[^`]*`");
+    private static final Pattern ROUTE = Pattern.compile("^app\\.(?:get|post|put|patch|delete|all)\\(");
+    private static final Pattern CSS_CLASS = Pattern.compile("\\.([A-Za-z][\\w-]*)");
+    private static final Pattern CSS_ID = Pattern.compile("#([A-Za-z][\\w-]*)");
+    private static final Pattern TAG_START = Pattern.compile("<[A-Za-z]");
+    private static final Pattern ID_ATTRIBUTE = Pattern.compile("\\b(?:id|htmlFor)=\"([^\"]+)\"");
+    private static final Pattern CLASS_ATTRIBUTE = Pattern.compile("className=\\{?[`\"']([^`\"'}]*)");
+    
+    private static final String FEATURES = "automation-tests/src/test/resources/features/";
+    private static final int MAX_REFERENCE_DEPTH = 3;
+    
+    private final ImpactMap map;
+    private final Path root;
+    private final Set<String> trackedLocators;
+    
+    private final Set<String> locators = new TreeSet<>();
+    private final Set<BackendRule> rules = EnumSet.noneOf(BackendRule.class);
+    private final Set<String> featureFiles = new TreeSet<>();
+    private final List<String> reasons = new ArrayList<>();
+    private boolean allBrowser;
+    private boolean uiChecks;
+    private boolean everything;
+    private int changedFiles;
+    
+    /**
+     * Changed lines of one file
+     */
+    static final class FileChange {
+        
+        private String path;
+        private final List<Integer> lines = new ArrayList<>();
+        private final List<String> text = new ArrayList<>();
+        
+        String getPath() {
+            return path;
+        }
+        
+        List<Integer> getLines() {
+            return lines;
+        }
+        
+        List<String> getText() {
+            return text;
+        }
+    }
+    
+    private ImpactAnalysis(ImpactMap map, Path root) {
+        this.map = map;
+        this.root = root;
+        this.trackedLocators = map.getTrackedLocators();
+    }
+    
+    /**
+     * Analyzes a change
+     * 
+     * @param diff Git revision or range to diff the working tree against
+     *             (e.g. origin/main), or a patch file
+     * @param map Impact map from earlier runs
+     * @return Analysis of the change
+     * @throws IOException If git fails or the patch cannot be read
+     */
+    public static ImpactAnalysis analyze(String diff, ImpactMap map) throws IOException {
+        Path root = Paths.get(git(Paths.get("").toAbsolutePath(), "rev-parse", "--show-toplevel").trim());
+        Path patchFile = Paths.get(diff);
+        String patch = Files.isRegularFile(patchFile)
+            ? Files.readString(patchFile, StandardCharsets.UTF_8)
+            : git(root, "diff", "--unified=0", "--no-color", "--no-renames", diff, "--");
+        return analyze(patch, map, root);
+    }
+    
+    /**
+     * Analyzes a unified diff against the files of a checkout
+     * 
+     * @param patch Unified diff
+     * @param map Impact map from earlier runs
+     * @param root Checkout the diff paths are relative to
+     * @return Analysis of the change
+     * @throws IOException If a changed file cannot be read
+     */
+    static ImpactAnalysis analyze(String patch, ImpactMap map, Path root) throws IOException {
+        ImpactAnalysis analysis = new ImpactAnalysis(map, root);
+        for (FileChange change : parse(patch)) {
+            analysis.analyzeFile(change);
+        }
+        return analysis;
+    }
+    
+    private static String git(Path directory, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        Collections.addAll(command, args);
+        Process process = new ProcessBuilder(command).directory(directory.toFile()).redirectErrorStream(true).start();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream in = process.getInputStream()) {
+            in.transferTo(output);
+            if (process.waitFor() != 0) {
+                throw new IOException(String.join(" ", command) + " failed: " + output.toString(StandardCharsets.UTF_8).trim());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted running git", e);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Splits a unified diff into changed files with the changed line numbers
+     * in the new version; removed lines are placed at the line that follows them
+     */
+    static List<FileChange> parse(String patch) {
+        List<FileChange> changes = new ArrayList<>();
+        FileChange current = null;
+        int newLine = 0;
+        for (String line : patch.split("\n")) {
+            if (line.startsWith("diff --git ")) {
+                current = new FileChange();
+                current.path = line.substring(line.lastIndexOf(" b/") + 3);
+                changes.add(current);
+            } else if (current == null) {
+                continue;
+            } else if (line.startsWith("+++ ") || line.startsWith("--- ")) {
+                // Deleted files have +++ /dev/null and keep the path from the diff line
+                if (line.startsWith("+++ b/")) {
+                    current.path = line.substring(6);
+                }
+            } else if (line.startsWith("@@")) {
+                // A hunk that only removes lines gives the line before them
+                Matcher hunk = HUNK.matcher(line);
+                newLine = hunk.find() ? Integer.parseInt(hunk.group(1)) + ("0".equals(hunk.group(2)) ? 1 : 0) : 0;
+            } else if (line.startsWith("+")) {
+                current.lines.add(newLine++);
+                current.text.add(line.substring(1));
+            } else if (line.startsWith("-")) {
+                current.lines.add(newLine);
+                current.text.add(line.substring(1));
+            } else if (line.startsWith(" ")) {
+                newLine++;
+            }
+        }
+        return changes;
+    }
+    
+    private void analyzeFile(FileChange change) throws IOException {
+        String path = change.path;
+        changedFiles++;
+        if (!change.text.isEmpty() && change.text.stream().allMatch(ImpactAnalysis::isCommentOrBlank)) {
+            reasons.add(path + ": comments and whitespace only");
+            return;
+        }
+        if (path.endsWith(".md") || path.endsWith(".pdf") || path.equals(".gitignore")
+                || path.startsWith("benchmarks/") || path.startsWith("Logintesing/")) {
+            reasons.add(path + ": not used by the scenarios");
+            return;
+        }
+        if (path.startsWith(FEATURES) && path.endsWith(".feature")) {
+            featureFiles.add(path.substring(path.lastIndexOf('/') + 1));
+            reasons.add(path + ": every scenario in the feature");
+            return;
+        }
+        
+        Path file = root.resolve(path);
+        List<String> lines = Files.isRegularFile(file)
+            ? Files.readAllLines(file, StandardCharsets.UTF_8)
+            : Collections.emptyList();
+        if (path.equals("backend/server.js") && !lines.isEmpty()) {
+            analyzeServer(path, lines, change.lines);
+        } else if (path.startsWith("frontend/src/") && path.endsWith(".css") && !lines.isEmpty()) {
+            analyzeStylesheet(path, lines, change.lines);
+        } else if (path.startsWith("frontend/src/") && (path.endsWith(".jsx") || path.endsWith(".js")) && !lines.isEmpty()) {
+            analyzeComponent(path, lines, change.lines);
+        } else if (path.startsWith("frontend/")) {
+            allBrowser = true;
+            reasons.add(path + ": every browser scenario");
+        } else if (path.startsWith("backend/")) {
+            rules.addAll(EnumSet.allOf(BackendRule.class));
+            reasons.add(path + ": every backend scenario");
+        } else {
+            everything = true;
+            reasons.add(path + ": every scenario");
+        }
+    }
+    
+    // ==================== BACKEND ====================
+    
+    private void analyzeServer(String path, List<String> lines, List<Integer> changed) {
+        Set<BackendRule> found = EnumSet.noneOf(BackendRule.class);
+        for (int line : changed) {
+            if (line >= 1 && line <= lines.size()) {
+                found.addAll(serverRules(lines, line - 1, 0));
+            }
+        }
+        rules.addAll(found);
+        reasons.add(path + ": " + (found.isEmpty() ? "no login or health route" : found + " stages"));
+    }
+    
+    /**
+     * Stages that depend on a line of server.js
+     * Inside the login route, the line belongs to the first stage marked at
+     * or after it. Helpers and data belong to the stages that use them
+     */
+    private static Set<BackendRule> serverRules(List<String> lines, int index, int depth) {
+        int start = index;
+        while (start >= 0 && !isStatementStart(lines.get(start))) {
+            start--;
+        }
+        if (start < 0) {
+            return EnumSet.allOf(BackendRule.class);
+        }
+        int end = start + 1;
+        while (end < lines.size() && !isStatementStart(lines.get(end))) {
+            end++;
+        }
+        String head = lines.get(start);
+        
+        if (head.startsWith("app.post('/api/auth/login'")) {
+            if (index > start) {
+                for (int i = index; i < end; i++) {
+                    if (!isCommentOrBlank(lines.get(i)) && BackendRule.markedBy(lines.get(i)).isPresent()) {
+                        return EnumSet.of(BackendRule.markedBy(lines.get(i)).get());
+                    }
+                }
+            }
+            return BackendRule.login();
+        }
+        if (ROUTE.matcher(head).find()) {
+            return head.contains("/api/health") ? EnumSet.of(BackendRule.HEALTH) : EnumSet.noneOf(BackendRule.class);
+        }
+        Matcher declaration = DECLARATION.matcher(head);
+        if (!declaration.find() || depth >= MAX_REFERENCE_DEPTH) {
+            return EnumSet.allOf(BackendRule.class);
+        }
+        if (BackendRule.markedBy(head).isPresent()) {
+            return EnumSet.of(BackendRule.markedBy(head).get());
+        }
+        Pattern reference = Pattern.compile("\\b" + declaration.group(1) + "\\b");
+        Set<BackendRule> used = EnumSet.noneOf(BackendRule.class);
+        boolean referenced = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String code = STRING_LITERAL.matcher(lines.get(i)).replaceAll("''");
+            if ((i < start || i >= end) && !isCommentOrBlank(code) && reference.matcher(code).find()) {
+                referenced = true;
+                used.addAll(serverRules(lines, i, depth + 1));
+            }
+        }
+        return referenced ? used : EnumSet.allOf(BackendRule.class);
+    }
+    
+    /**
+     * Top-level statements start in column 0; comments and closing brackets don't count
+     */
+    private static boolean isStatementStart(String line) {
+        return !line.isEmpty() && !Character.isWhitespace(line.charAt(0)) && !isCommentOrBlank(line)
+            && "})]".indexOf(line.charAt(0)) < 0;
+    }
+    
+    // ==================== FRONTEND ====================
+    
+    private void analyzeStylesheet(String path, List<String> lines, List<Integer> changed) throws IOException {
+        Set<String> selected = new TreeSet<>();
+        boolean untracked = false;
+        boolean global = false;
+        for (int line : changed) {
+            if (line < 1 || line > lines.size() || isCommentOrBlank(lines.get(line - 1))) {
+                continue;
+            }
+            String selector = enclosingSelector(lines, line - 1);
+            if (selector == null || selector.startsWith("@")) {
+                global = true;
+                continue;
+            }
+            Set<String> tokens = new TreeSet<>();
+            Matcher cssClass = CSS_CLASS.matcher(selector);
+            while (cssClass.find()) {
+                tokens.add(cssClass.group(1));
+                tokens.addAll(elementsUsing(Pattern.compile(
+                    "className=.*(?<![\\w-])" + Pattern.quote(cssClass.group(1)) + "(?![\\w-])")));
+            }
+            Matcher cssId = CSS_ID.matcher(selector);
+            while (cssId.find()) {
+                tokens.add(cssId.group(1));
+                tokens.addAll(elementsUsing(Pattern.compile("\\bid=\"" + Pattern.quote(cssId.group(1)) + "\"")));
+            }
+            if (tokens.isEmpty()) {
+                // Element or pseudo-element selector: may match any element
+                global = true;
+                continue;
+            }
+            tokens.retainAll(trackedLocators);
+            if (tokens.isEmpty()) {
+                untracked = true;
+            }
+            selected.addAll(tokens);
+        }
+        locators.addAll(selected);
+        if (global) {
+            allBrowser = true;
+            reasons.add(path + ": global or element styles, every browser scenario");
+        } else {
+            uiChecks |= untracked;
+            reasons.add(path + ": " + describe(selected, untracked));
+        }
+    }
+    
+    /**
+     * Selector of the CSS rule containing a line
+     * 
+     * @return Selector text, or null at the top level
+     */
+    private static String enclosingSelector(List<String> lines, int index) {
+        if (lines.get(index).contains("{")) {
+            return lines.get(index).substring(0, lines.get(index).indexOf('{')).trim();
+        }
+        int depth = 0;
+        for (int i = index - 1; i >= 0; i--) {
+            String line = lines.get(i);
+            depth += count(line, '}') - count(line, '{');
+            if (depth < 0) {
+                return line.substring(0, line.indexOf('{')).trim();
+            }
+        }
+        return null;
+    }
+    
+    private void analyzeComponent(String path, List<String> lines, List<Integer> changed) {
+        Set<String> selected = new TreeSet<>();
+        boolean untracked = false;
+        boolean code = false;
+        for (int line : changed) {
+            if (line < 1 || line > lines.size() || isCommentOrBlank(lines.get(line - 1))) {
+                continue;
+            }
+            int tag = tagStart(lines, line - 1);
+            if (tag < 0) {
+                code = true;
+                continue;
+            }
+            Set<String> tokens = elementTokens(lines, tag);
+            tokens.retainAll(trackedLocators);
+            if (tokens.isEmpty()) {
+                untracked = true;
+            }
+            selected.addAll(tokens);
+        }
+        if (code) {
+            // Logic or text: anything the file renders may change
+            String source = String.join("\n", lines);
+            Set<String> inFile = trackedLocators.stream()
+                .filter(token -> Pattern.compile("(?<![\\w-])" + Pattern.quote(token) + "(?![\\w-])").matcher(source).find())
+                .collect(Collectors.toCollection(TreeSet::new));
+            if (inFile.isEmpty()) {
+                allBrowser = true;
+                reasons.add(path + ": code change, every browser scenario");
+                return;
+            }
+            selected.addAll(inFile);
+        }
+        locators.addAll(selected);
+        uiChecks |= untracked;
+        reasons.add(path + ": " + describe(selected, untracked));
+    }
+    
+    /**
+     * Start of the JSX tag whose attributes span a line
+     * 
+     * @return Index of the line opening the tag, or -1 if the line is not inside a tag
+     */
+    private static int tagStart(List<String> lines, int index) {
+        int start = index;
+        while (start >= 0 && !TAG_START.matcher(lines.get(start)).find()) {
+            if (start < index && closesTag(lines.get(start))) {
+                return -1;
+            }
+            start--;
+        }
+        if (start < 0) {
+            return -1;
+        }
+        int end = start;
+        while (end < lines.size() - 1 && !closesTag(lines.get(end))) {
+            end++;
+        }
+        return index > end ? -1 : start;
+    }
+    
+    /**
+     * Ids and classes of the JSX element opened on a line and of every
+     * element nested in it, so a change to a container reaches the
+     * elements it wraps
+     * 
+     * @param start Index of the line opening the element
+     * @return Tokens of the element and its descendants
+     */
+    private static Set<String> elementTokens(List<String> lines, int start) {
+        Set<String> tokens = new TreeSet<>();
+        int depth = 0;
+        for (int i = start; i < lines.size(); i++) {
+            String line = lines.get(i);
+            Matcher id = ID_ATTRIBUTE.matcher(line);
+            while (id.find()) {
+                tokens.add(id.group(1));
+            }
+            Matcher classes = CLASS_ATTRIBUTE.matcher(line);
+            while (classes.find()) {
+                Collections.addAll(tokens, classes.group(1).trim().split("\\s+"));
+            }
+            Matcher opened = TAG_START.matcher(line);
+            while (opened.find()) {
+                depth++;
+            }
+            depth -= count(line, "</") + count(line, "/>");
+            if (depth <= 0 && closesTag(line)) {
+                break;
+            }
+        }
+        tokens.remove("");
+        return tokens;
+    }
+    
+    private static boolean closesTag(String line) {
+        String trimmed = line.trim();
+        return trimmed.endsWith(">") && !trimmed.endsWith("=>");
+    }
+    
+    /**
+     * Ids and classes of every component element whose attributes match a
+     * usage pattern, and of the elements nested in them
+     */
+    private Set<String> elementsUsing(Pattern usage) throws IOException {
+        Set<String> tokens = new TreeSet<>();
+        Path sources = root.resolve("frontend/src");
+        if (!Files.isDirectory(sources)) {
+            return tokens;
+        }
+        List<Path> components;
+        try (Stream<Path> files = Files.walk(sources)) {
+            components = files.filter(file -> file.toString().endsWith(".jsx")).collect(Collectors.toList());
+        }
+        for (Path component : components) {
+            List<String> lines = Files.readAllLines(component, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                if (usage.matcher(lines.get(i)).find()) {
+                    int tag = tagStart(lines, i);
+                    if (tag >= 0) {
+                        tokens.addAll(elementTokens(lines, tag));
+                    }
+                }
+            }
+        }
+        return tokens;
+    }
+    
+    private static String describe(Set<String> selected, boolean untracked) {
+        String tracked = selected.isEmpty() ? "" : "elements " + selected;
+        String visual = untracked ? "untracked elements (@ui scenarios)" : "";
+        String both = tracked.isEmpty() || visual.isEmpty() ? tracked + visual : tracked + " and " + visual;
+        return both.isEmpty() ? "no tracked elements" : both;
+    }
+    
+    // ==================== SELECTION ====================
+    
+    /**
+     * Checks whether the change can affect a scenario
+     * 
+     * @param key Scenario key, e.g. "01_functional_login.feature:10"
+     * @return true if the scenario has to run
+     */
+    public boolean isAffected(String key) {
+        int colon = key.lastIndexOf(':');
+        if (everything || featureFiles.contains(colon < 0 ? key : key.substring(0, colon))) {
+            return true;
+        }
+        return map.get(key).map(entry -> {
+            boolean browser = !entry.getLocators().isEmpty();
+            return !Collections.disjoint(entry.getRules(), rules)
+                || !Collections.disjoint(entry.getLocators(), locators)
+                || allBrowser && browser
+                || uiChecks && browser && entry.getTags().contains("@ui");
+        }).orElse(true);
+    }
+    
+    /**
+     * What each changed file was mapped to
+     * 
+     * @return One line per file
+     */
+    public List<String> getReasons() {
+        return reasons;
+    }
+    
+    public int getChangedFileCount() {
+        return changedFiles;
+    }
+    
+    private static boolean isCommentOrBlank(String line) {
+        String trimmed = line.trim();
+        return trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("/*") || trimmed.startsWith("*")
+            || trimmed.startsWith("{/*") || trimmed.startsWith("<!--");
+    }
+    
+    private static int count(String line, char c) {
+        return (int) line.chars().filter(ch -> ch == c).count();
+    }
+    
+    private static int count(String line, String s) {
+        int count = 0;
+        for (int i = line.indexOf(s); i >= 0; i = line.indexOf(s, i + s.length())) {
+            count++;
+        }
+        return count;
+    }
+}
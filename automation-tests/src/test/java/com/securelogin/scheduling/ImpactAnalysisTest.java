@@ -0,0 +1,249 @@
+package com.securelogin.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Impact Analysis Test
+ * Unified-diff parsing of ImpactAnalysis: changed files and the lines
+ * each change maps to in the new version; and scenario selection for
+ * stylesheet and component changes, including containers of tracked
+ * elements
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+class ImpactAnalysisTest {
+    
+    private static final String COMPONENT = String.join("\n",
+        "const LoginPage = () => {",
+        "  return (",
+        "    <div className=\"min-h-screen flex\">",
+        "      <div className={`card-gradient p-8 ${shake ? 'error-shake' : ''}`}>",
+        "        <h1 className=\"text-3xl\">Secure Login</h1>",
+        "        <form>",
+        "          <input",
+        "            id=\"username\"",
+        "            className=\"input-focus w-full\"",
+        "          />",
+        "          <button id=\"login-button\" className=\"btn-primary\">",
+        "            <svg className=\"w-5 h-5\"><path d=\"M4 12\"></path></svg>",
+        "          </button>",
+        "        </form>",
+        "      </div>",
+        "      <p className=\"text-sm\">Need help?</p>",
+        "    </div>",
+        "  )",
+        "}");
+        
+    private static final String STYLESHEET = String.join("\n",
+        "@layer base {",
+        "  body {",
+        "    @apply min-h-screen;",
+        "  }",
+        "}",
+        "",
+        ".card-gradient {",
+        "  @apply bg-white/80 shadow-2xl;",
+        "}",
+        "",
+        ".text-sm {",
+        "  font-size: 0.875rem;",
+        "}");
+        
+    private static final String IMPACT_MAP = "{"
+        + "\"01_functional_login.feature:9\": {\"tags\": [\"@smoke\"], \"locators\": [\"username\", \"login-button\"], \"rules\": []},"
+        + "\"01_functional_login.feature:30\": {\"tags\": [\"@smoke\"], \"locators\": [\"welcome-message\"], \"rules\": []},"
+        + "\"04_ui_validation.feature:12\": {\"tags\": [\"@ui\"], \"locators\": [\"error-message\"], \"rules\": []},"
+        + "\"05_api.feature:4\": {\"tags\": [\"@api\"], \"locators\": [], \"rules\": [\"CREDENTIALS\"]}"
+        + "}";
+        
+    @TempDir
+    Path root;
+    
+    @Test
+    void addedLinesAreNumberedFromTheHunkStart() {
+        List<ImpactAnalysis.FileChange> changes = ImpactAnalysis.parse(String.join("\n",
+            "diff --git a/backend/server.js b/backend/server.js",
+            "index 1111111..2222222 100644",
+            "--- a/backend/server.js",
+            "+++ b/backend/server.js",
+            "@@ -10,3 +10,5 @@ const loginValidation = [",
+            " context 10",
+            "+added 11",
+            " context 12",
+            "+added 13",
+            "+added 14"));
+        assertEquals(1, changes.size());
+        assertEquals("backend/server.js", changes.get(0).getPath());
+        assertEquals(List.of(11, 13, 14), changes.get(0).getLines());
+        assertEquals(List.of("added 11", "added 13", "added 14"), changes.get(0).getText());
+    }
+    
+    @Test
+    void zeroContextHunksWithoutCountsStartAtTheirLine() {
+        List<ImpactAnalysis.FileChange> changes = ImpactAnalysis.parse(String.join("\n",
+            "diff --git a/backend/server.js b/backend/server.js",
+            "--- a/backend/server.js",
+            "+++ b/backend/server.js",
+            "@@ -7 +7 @@",
+            "-old 7",
+            "+new 7",
+            "@@ -40,0 +41,2 @@",
+            "+new 41",
+            "+new 42"));
+        assertEquals(List.of(7, 7, 41, 42), changes.get(0).getLines());
+        assertEquals(List.of("old 7", "new 7", "new 41", "new 42"), changes.get(0).getText());
+    }
+    
+    @Test
+    void removedLinesMapToTheLineThatFollowsThem() {
+        List<ImpactAnalysis.FileChange> changes = ImpactAnalysis.parse(String.join("\n",
+            "diff --git a/frontend/src/App.css b/frontend/src/App.css",
+            "--- a/frontend/src/App.css",
+            "+++ b/frontend/src/App.css",
+            "@@ -20,2 +19,0 @@",
+            "-.error {",
+            "-}",
+            "@@ -30,3 +28,2 @@",
+            " .button {",
+            "-  color: red;",
+            " }"));
+        assertEquals(List.of(20, 20, 29), changes.get(0).getLines());
+    }
+    
+    @Test
+    void everyFileOfTheDiffIsReported() {
+        List<ImpactAnalysis.FileChange> changes = ImpactAnalysis.parse(String.join("\n",
+            "diff --git a/README.md b/README.md",
+            "--- a/README.md",
+            "+++ b/README.md",
+            "@@ -1 +1 @@",
+            "-# Old",
+            "+# New",
+            "diff --git a/frontend/src/New.jsx b/frontend/src/New.jsx",
+            "new file mode 100644",
+            "--- /dev/null",
+            "+++ b/frontend/src/New.jsx",
+            "@@ -0,0 +1,2 @@",
+            "+export default function New() {",
+            "+}",
+            "diff --git a/frontend/src/Old.jsx b/frontend/src/Old.jsx",
+            "deleted file mode 100644",
+            "--- a/frontend/src/Old.jsx",
+            "+++ /dev/null",
+            "@@ -1,2 +0,0 @@",
+            "-export default function Old() {",
+            "-}"));
+        assertEquals(3, changes.size());
+        assertEquals("README.md", changes.get(0).getPath());
+        assertEquals("frontend/src/New.jsx", changes.get(1).getPath());
+        assertEquals(List.of(1, 2), changes.get(1).getLines());
+        // Deleted files keep the path from the diff line
+        assertEquals("frontend/src/Old.jsx", changes.get(2).getPath());
+        assertEquals(List.of(1, 1), changes.get(2).getLines());
+    }
+    
+    @Test
+    void textOutsideFileSectionsAndNoNewlineMarkersAreIgnored() {
+        List<ImpactAnalysis.FileChange> changes = ImpactAnalysis.parse(String.join("\n",
+            "From 1234 Mon Sep 17 00:00:00 2001",
+            "+not a change",
+            "diff --git a/backend/.env.example b/backend/.env.example",
+            "--- a/backend/.env.example",
+            "+++ b/backend/.env.example",
+            "@@ -3 +3 @@",
+            "-PORT=5000",
+            "\\ No newline at end of file",
+            "+PORT=5001",
+            "\\ No newline at end of file"));
+        assertEquals(1, changes.size());
+        assertEquals(List.of("PORT=5000", "PORT=5001"), changes.get(0).getText());
+        assertEquals(List.of(3, 3), changes.get(0).getLines());
+    }
+    
+    @Test
+    void emptyDiffHasNoChanges() {
+        assertTrue(ImpactAnalysis.parse("").isEmpty());
+    }
+    
+    @Test
+    void containerRuleSelectsTheScenariosLocatingWhatItWraps() throws IOException {
+        ImpactAnalysis analysis = analyze(String.join("\n",
+            "diff --git a/frontend/src/index.css b/frontend/src/index.css",
+            "--- a/frontend/src/index.css",
+            "+++ b/frontend/src/index.css",
+            "@@ -8 +8 @@",
+            "-  @apply bg-white/80 shadow-xl;",
+            "+  @apply bg-white/80 shadow-2xl;"));
+        assertTrue(analysis.isAffected("01_functional_login.feature:9"));
+        assertFalse(analysis.isAffected("01_functional_login.feature:30"));
+        assertFalse(analysis.isAffected("04_ui_validation.feature:12"));
+        assertFalse(analysis.isAffected("05_api.feature:4"));
+    }
+    
+    @Test
+    void changedContainerTagSelectsTheScenariosLocatingWhatItWraps() throws IOException {
+        ImpactAnalysis analysis = analyze(String.join("\n",
+            "diff --git a/frontend/src/components/LoginPage.jsx b/frontend/src/components/LoginPage.jsx",
+            "--- a/frontend/src/components/LoginPage.jsx",
+            "+++ b/frontend/src/components/LoginPage.jsx",
+            "@@ -4 +4 @@",
+            "-      <div className={`card-gradient p-6 ${shake ? 'error-shake' : ''}`}>",
+            "+      <div className={`card-gradient p-8 ${shake ? 'error-shake' : ''}`}>"));
+        assertTrue(analysis.isAffected("01_functional_login.feature:9"));
+        assertFalse(analysis.isAffected("01_functional_login.feature:30"));
+    }
+    
+    @Test
+    void ruleOnUntrackedLeafOnlySelectsUiScenarios() throws IOException {
+        ImpactAnalysis analysis = analyze(String.join("\n",
+            "diff --git a/frontend/src/index.css b/frontend/src/index.css",
+            "--- a/frontend/src/index.css",
+            "+++ b/frontend/src/index.css",
+            "@@ -12 +12 @@",
+            "-  font-size: 0.8rem;",
+            "+  font-size: 0.875rem;"));
+        assertFalse(analysis.isAffected("01_functional_login.feature:9"));
+        assertTrue(analysis.isAffected("04_ui_validation.feature:12"));
+    }
+    
+    @Test
+    void elementSelectorSelectsEveryBrowserScenario() throws IOException {
+        ImpactAnalysis analysis = analyze(String.join("\n",
+            "diff --git a/frontend/src/index.css b/frontend/src/index.css",
+            "--- a/frontend/src/index.css",
+            "+++ b/frontend/src/index.css",
+            "@@ -3 +3 @@",
+            "-    @apply h-screen;",
+            "+    @apply min-h-screen;"));
+        assertTrue(analysis.isAffected("01_functional_login.feature:9"));
+        assertTrue(analysis.isAffected("01_functional_login.feature:30"));
+        assertTrue(analysis.isAffected("04_ui_validation.feature:12"));
+        assertFalse(analysis.isAffected("05_api.feature:4"));
+    }
+    
+    private ImpactAnalysis analyze(String patch) throws IOException {
+        write("frontend/src/components/LoginPage.jsx", COMPONENT);
+        write("frontend/src/index.css", STYLESHEET);
+        ImpactMap map = ImpactMap.load(write("impact-map.json", IMPACT_MAP));
+        return ImpactAnalysis.analyze(patch, map, root);
+    }
+    
+    private Path write(String path, String content) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
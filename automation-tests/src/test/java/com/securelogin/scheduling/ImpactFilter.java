@@ -0,0 +1,102 @@
+package com.securelogin.scheduling;
+
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Impact Filter
+ * Runs only the scenarios a change can affect when run with
+ * -Dimpact.diff=<revision> (or a patch file): the diff is mapped through
+ * the impact map recorded by earlier runs (see ImpactAnalysis), and the
+ * time saved is estimated from the previous run's durations
+ * 
+ * Without an impact map every scenario runs, so record one with a full
+ * run first. Registered through META-INF/services; does nothing without
+ * -Dimpact.diff
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ImpactFilter implements PostDiscoveryFilter {
+    
+    private static final String DIFF = System.getProperty("impact.diff");
+    private static final String TAG_FILTER = System.getProperty("cucumber.filter.tags");
+    
+    // Unaffected scenarios per discovered test plan
+    private final Map<UniqueId, Set<UniqueId>> unaffected = new ConcurrentHashMap<>();
+    
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (DIFF == null || DIFF.isEmpty() || !descriptor.isTest()) {
+            return FilterResult.included("impact selection disabled or container");
+        }
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        TestDescriptor engineRoot = root;
+        Set<UniqueId> skipped = unaffected.computeIfAbsent(root.getUniqueId(), id -> select(engineRoot));
+        return FilterResult.includedIf(!skipped.contains(descriptor.getUniqueId()),
+            () -> "affected by " + DIFF, () -> "not affected by " + DIFF);
+    }
+    
+    /**
+     * Finds the scenarios under a root that the change cannot affect
+     * 
+     * @param root Engine root descriptor
+     * @return Scenarios to leave out
+     */
+    private static Set<UniqueId> select(TestDescriptor root) {
+        ImpactMap map = ImpactMap.loadDefault();
+        if (map.isEmpty()) {
+            System.out.println("→ Impact: no impact map at " + ImpactMap.getDefaultPath() + ", running every scenario");
+            return Collections.emptySet();
+        }
+        ImpactAnalysis analysis;
+        try {
+            analysis = ImpactAnalysis.analyze(DIFF, map);
+        } catch (IOException e) {
+            System.out.println("→ Impact: " + e.getMessage() + ", running every scenario");
+            return Collections.emptySet();
+        }
+        
+        ScenarioHistory history = ScenarioHistory.loadDefault();
+        long fallback = history.getMeanDuration();
+        Expression tags = TAG_FILTER == null || TAG_FILTER.isEmpty() ? null : TagExpressionParser.parse(TAG_FILTER);
+        Set<UniqueId> skipped = new HashSet<>();
+        int total = 0;
+        long totalTime = 0;
+        long savedTime = 0;
+        for (TestDescriptor test : root.getDescendants()) {
+            if (test.isTest() && (tags == null || tags.evaluate(ShardFilter.cucumberTags(test)))) {
+                String key = ScenarioHistory.keyOf(test).orElse(test.getUniqueId().toString());
+                long duration = history.getDuration(key).orElse(fallback);
+                total++;
+                totalTime += duration;
+                if (!analysis.isAffected(key)) {
+                    skipped.add(test.getUniqueId());
+                    savedTime += duration;
+                }
+            }
+        }
+        System.out.println("✓ Impact of " + DIFF + ": " + (total - skipped.size()) + " of " + total
+            + " scenarios affected by " + analysis.getChangedFileCount()
+            + (analysis.getChangedFileCount() == 1 ? " changed file" : " changed files")
+            + (history.isEmpty() ? "" : String.format(", ~%.1f s of %.1f s saved", savedTime / 1e9, totalTime / 1e9)));
+        for (String reason : analysis.getReasons()) {
+            System.out.println("  → " + reason);
+        }
+        return skipped;
+    }
+}
@@ -0,0 +1,174 @@
+package com.securelogin.scheduling;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Impact Map
+ * What each scenario depends on, recorded by ImpactMapPlugin while it
+ * runs: the element ids and classes it located (from LoginPage and
+ * DashboardPage locators and page scripts) and the backend stages its
+ * logins went through. Entries are merged across runs, so a browser run
+ * and an API-tier run of the same scenario add up
+ * 
+ * Stored as JSON in -Dimpact.map (default target/impact-map.json), keyed
+ * like ScenarioHistory ("01_functional_login.feature:10")
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ImpactMap {
+    
+    private static final Json JSON = new Json();
+    private static final String DEFAULT_PATH = "target/impact-map.json";
+    
+    private final Map<String, Entry> entries = new TreeMap<>();
+    
+    /**
+     * Dependencies of one scenario
+     */
+    public static final class Entry {
+        
+        private final Set<String> tags = new TreeSet<>();
+        private final Set<String> locators = new TreeSet<>();
+        private final Set<BackendRule> rules = EnumSet.noneOf(BackendRule.class);
+        
+        public Set<String> getTags() {
+            return tags;
+        }
+        
+        public Set<String> getLocators() {
+            return locators;
+        }
+        
+        public Set<BackendRule> getRules() {
+            return rules;
+        }
+        
+        public boolean isEmpty() {
+            return locators.isEmpty() && rules.isEmpty();
+        }
+        
+        void addAll(Entry other) {
+            tags.addAll(other.tags);
+            locators.addAll(other.locators);
+            rules.addAll(other.rules);
+        }
+    }
+    
+    /**
+     * Loads the map named by -Dimpact.map
+     * 
+     * @return Impact map, empty if the file does not exist
+     */
+    public static ImpactMap loadDefault() {
+        return load(getDefaultPath());
+    }
+    
+    public static Path getDefaultPath() {
+        return Paths.get(System.getProperty("impact.map", DEFAULT_PATH));
+    }
+    
+    /**
+     * Loads a map written by save()
+     * 
+     * @param file impact-map.json
+     * @return Impact map, empty if the file is missing or unreadable
+     */
+    @SuppressWarnings("unchecked")
+    public static ImpactMap load(Path file) {
+        ImpactMap map = new ImpactMap();
+        if (!Files.isRegularFile(file)) {
+            return map;
+        }
+        try {
+            Map<String, Object> json = JSON.toType(Files.readString(file, StandardCharsets.UTF_8), Map.class);
+            for (Map.Entry<String, Object> scenario : json.entrySet()) {
+                Map<String, Object> value = (Map<String, Object>) scenario.getValue();
+                Entry entry = new Entry();
+                entry.tags.addAll(strings(value.get("tags")));
+                entry.locators.addAll(strings(value.get("locators")));
+                for (String rule : strings(value.get("rules"))) {
+                    entry.rules.add(BackendRule.valueOf(rule));
+                }
+                map.entries.put(scenario.getKey(), entry);
+            }
+        } catch (IOException | JsonException | ClassCastException | IllegalArgumentException e) {
+            System.out.println("→ Could not read impact map " + file + ": " + e.getMessage());
+            map.entries.clear();
+        }
+        return map;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Collection<String> strings(Object value) {
+        return value instanceof Collection ? (Collection<String>) value : Collections.emptyList();
+    }
+    
+    /**
+     * Writes the map as JSON
+     * 
+     * @param file Target file
+     * @throws IOException If the file cannot be written
+     */
+    public synchronized void save(Path file) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> scenario : entries.entrySet()) {
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("tags", scenario.getValue().tags);
+            value.put("locators", scenario.getValue().locators);
+            value.put("rules", scenario.getValue().rules);
+            json.put(scenario.getKey(), value);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, JSON.toJson(json), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Adds what a scenario used in this run to its entry
+     * 
+     * @param key Scenario key
+     * @param entry Recorded dependencies
+     */
+    public synchronized void merge(String key, Entry entry) {
+        entries.computeIfAbsent(key, k -> new Entry()).addAll(entry);
+    }
+    
+    public synchronized Optional<Entry> get(String key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+    
+    /**
+     * All element ids and classes any scenario located
+     * 
+     * @return Tracked locator tokens
+     */
+    public synchronized Set<String> getTrackedLocators() {
+        Set<String> tokens = new TreeSet<>();
+        for (Entry entry : entries.values()) {
+            tokens.addAll(entry.locators);
+        }
+        return tokens;
+    }
+    
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+}
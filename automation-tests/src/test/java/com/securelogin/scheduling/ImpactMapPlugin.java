@@ -0,0 +1,61 @@
+package com.securelogin.scheduling;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Impact Map Plugin
+ * Records what every scenario touches with ImpactRecorder and merges it
+ * into the impact map at the end of the run, for ImpactFilter to select
+ * scenarios from a git diff later
+ * 
+ * Register with plugin "com.securelogin.scheduling.ImpactMapPlugin:<file>"
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ImpactMapPlugin implements ConcurrentEventListener {
+    
+    private final File mapFile;
+    private final ImpactMap map;
+    
+    /**
+     * Constructor
+     * 
+     * @param mapFile impact-map.json to merge into
+     */
+    public ImpactMapPlugin(File mapFile) {
+        this.mapFile = mapFile;
+        this.map = ImpactMap.load(mapFile.toPath());
+    }
+    
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class,
+            event -> ImpactRecorder.startScenario(event.getTestCase().getTags()));
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeMap());
+    }
+    
+    private void onTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        // Dry runs and skipped scenarios record nothing; leave them out so they stay selected
+        ImpactRecorder.finishScenario().filter(entry -> !entry.isEmpty()).ifPresent(entry ->
+            map.merge(ScenarioHistory.keyOf(testCase.getUri().toString(), testCase.getLocation().getLine()), entry));
+    }
+    
+    private void writeMap() {
+        try {
+            map.save(mapFile.toPath());
+        } catch (IOException e) {
+            System.out.println("→ Could not write impact map " + mapFile + ": " + e.getMessage());
+        }
+    }
+}
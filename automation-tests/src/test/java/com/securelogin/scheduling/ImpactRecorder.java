@@ -0,0 +1,176 @@
+package com.securelogin.scheduling;
+
+import com.securelogin.backend.LoginService;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Impact Recorder
+ * WebDriver listener that records, per scenario thread, the element ids
+ * and classes each scenario locates: By values of findElement(s) calls and
+ * CSS selectors inside executed page scripts. Page objects and ApiClient
+ * report logins and health checks, which are run through LoginService to
+ * find the backend stages they reach
+ * 
+ * Scenarios are started and finished by ImpactMapPlugin; outside a
+ * scenario nothing is recorded
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ImpactRecorder implements WebDriverListener {
+    
+    private static final ThreadLocal<ImpactMap.Entry> CURRENT = new ThreadLocal<>();
+    private static final LoginService LOGIN_RULES = new LoginService();
+    
+    private static final Pattern QUOTED = Pattern.compile("'([^']*)'|\"([^\"]*)\"");
+    private static final Pattern CSS_TOKEN = Pattern.compile("[#.]([A-Za-z][\\w-]*)");
+    private static final Pattern NAME_TOKEN = Pattern.compile("[A-Za-z][\\w-]*");
+    
+    /**
+     * Starts recording for the scenario on this thread
+     * 
+     * @param tags Scenario tags
+     */
+    static void startScenario(Collection<String> tags) {
+        ImpactMap.Entry entry = new ImpactMap.Entry();
+        entry.getTags().addAll(tags);
+        CURRENT.set(entry);
+    }
+    
+    /**
+     * Ends recording for the scenario on this thread
+     * 
+     * @return What the scenario used, empty if no scenario was started
+     */
+    static Optional<ImpactMap.Entry> finishScenario() {
+        ImpactMap.Entry entry = CURRENT.get();
+        CURRENT.remove();
+        return Optional.ofNullable(entry);
+    }
+    
+    /**
+     * Records a login submitted to the backend
+     * 
+     * @param username Username sent
+     * @param password Password sent
+     */
+    public static void recordLogin(String username, String password) {
+        ImpactMap.Entry entry = CURRENT.get();
+        if (entry != null) {
+            entry.getRules().addAll(BackendRule.exercisedBy(LOGIN_RULES.login(username, password)));
+        }
+    }
+    
+    /**
+     * Records a call to the health endpoint
+     */
+    public static void recordHealthCheck() {
+        ImpactMap.Entry entry = CURRENT.get();
+        if (entry != null) {
+            entry.getRules().add(BackendRule.HEALTH);
+        }
+    }
+    
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        recordLocator(locator);
+    }
+    
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        recordLocator(locator);
+    }
+    
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        recordLocator(locator);
+    }
+    
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        recordLocator(locator);
+    }
+    
+    @Override
+    public void beforeExecuteScript(WebDriver driver, String script, Object[] args) {
+        recordScript(script, args);
+    }
+    
+    @Override
+    public void beforeExecuteAsyncScript(WebDriver driver, String script, Object[] args) {
+        recordScript(script, args);
+    }
+    
+    /**
+     * Records the ids and classes a locator refers to
+     * By.id/className/name give their value; CSS selectors their #id and
+     * .class parts; XPath the quoted names in its predicates
+     */
+    private static void recordLocator(By locator) {
+        ImpactMap.Entry entry = CURRENT.get();
+        if (entry == null) {
+            return;
+        }
+        String text = locator.toString();
+        int separator = text.indexOf(": ");
+        if (separator < 0) {
+            return;
+        }
+        String how = text.substring(0, separator);
+        String value = text.substring(separator + 2);
+        if (how.equals("By.id") || how.equals("By.className") || how.equals("By.name")) {
+            entry.getLocators().add(value);
+        } else if (how.equals("By.cssSelector")) {
+            addCssTokens(entry, value);
+        } else if (how.equals("By.xpath")) {
+            Matcher quoted = QUOTED.matcher(value);
+            while (quoted.find()) {
+                String literal = quoted.group(1) != null ? quoted.group(1) : quoted.group(2);
+                if (NAME_TOKEN.matcher(literal).matches()) {
+                    entry.getLocators().add(literal);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Records the selectors used by a page script: quoted selectors in
+     * the script itself and selector arguments
+     */
+    private static void recordScript(String script, Object[] args) {
+        ImpactMap.Entry entry = CURRENT.get();
+        if (entry == null) {
+            return;
+        }
+        Matcher quoted = QUOTED.matcher(script);
+        while (quoted.find()) {
+            addCssTokens(entry, quoted.group(1) != null ? quoted.group(1) : quoted.group(2));
+        }
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof String) {
+                    addCssTokens(entry, (String) arg);
+                } else if (arg instanceof Collection) {
+                    for (Object item : (Collection<?>) arg) {
+                        addCssTokens(entry, String.valueOf(item));
+                    }
+                }
+            }
+        }
+    }
+    
+    private static void addCssTokens(ImpactMap.Entry entry, String selector) {
+        Matcher token = CSS_TOKEN.matcher(selector);
+        while (token.find()) {
+            entry.getLocators().add(token.group(1));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.securelogin.scheduling;
+
+import io.cucumber.junit.platform.engine.CucumberTestEngine;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered Cucumber Engine
+ * Cucumber's JUnit Platform engine with a configurable scenario order.
+ * Discovery and execution are Cucumber's own; with scenario.order=history
+ * the discovered tree is sorted using the previous run's results
+ * (-Dscenario.history, default target/cucumber-reports/cucumber.json)
+ * before it is handed to the launcher:
+ * - scenarios that failed last time run first, so red builds go red early
+ * - then the longest scenarios, so parallel workers don't end on a long tail
+ * Features are ordered the same way by their scenarios, and scenarios
+ * keep their feature, so reports stay grouped per feature.
+ * scenario.order=file (the default) keeps feature file order
+ * 
+ * Only discovers scenarios for suites that select it with
+ * @IncludeEngines("cucumber-ordered") and set cucumber-ordered.enabled=true,
+ * so launches without an engine filter don't run the features twice
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public final class OrderedCucumberEngine implements TestEngine {
+    
+    public static final String ENGINE_ID = "cucumber-ordered";
+    public static final String ENABLED_PROPERTY_NAME = "cucumber-ordered.enabled";
+    public static final String ORDER_PROPERTY_NAME = "scenario.order";
+    
+    private final CucumberTestEngine cucumber = new CucumberTestEngine();
+    
+    @Override
+    public String getId() {
+        return ENGINE_ID;
+    }
+    
+    @Override
+    public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+        if (!discoveryRequest.getConfigurationParameters().getBoolean(ENABLED_PROPERTY_NAME).orElse(false)) {
+            return new EngineDescriptor(uniqueId, "Cucumber (ordered)");
+        }
+        TestDescriptor root = cucumber.discover(discoveryRequest, uniqueId);
+        String order = discoveryRequest.getConfigurationParameters().get(ORDER_PROPERTY_NAME).orElse("file");
+        if ("history".equalsIgnoreCase(order)) {
+            orderByHistory(root);
+        } else if (!"file".equalsIgnoreCase(order)) {
+            throw new IllegalArgumentException("Unknown " + ORDER_PROPERTY_NAME + ": " + order + " (use file or history)");
+        }
+        return root;
+    }
+    
+    @Override
+    public void execute(ExecutionRequest request) {
+        TestDescriptor root = request.getRootTestDescriptor();
+        if (root.getChildren().isEmpty() && root.getClass() == EngineDescriptor.class) {
+            // Not enabled for this launch
+            EngineExecutionListener listener = request.getEngineExecutionListener();
+            listener.executionStarted(root);
+            listener.executionFinished(root, TestExecutionResult.successful());
+            return;
+        }
+        cucumber.execute(request);
+    }
+    
+    /**
+     * Sorts every container's children by priority
+     * Runs during this engine's own discovery, before the launcher sees the tree
+     * 
+     * @param root Engine root descriptor
+     */
+    private static void orderByHistory(TestDescriptor root) {
+        ScenarioHistory history = ScenarioHistory.loadDefault();
+        if (history.isEmpty()) {
+            System.out.println("→ Scenario order: no history, keeping feature file order");
+            return;
+        }
+        Map<TestDescriptor, Priority> priorities = new HashMap<>();
+        Priority total = priorityOf(root, history, history.getMeanDuration(), priorities);
+        sortChildren(root, priorities);
+        System.out.println("✓ Scenario order: " + total.failed + " failed last run first, then longest first");
+    }
+    
+    private static Priority priorityOf(TestDescriptor descriptor, ScenarioHistory history, long fallback,
+            Map<TestDescriptor, Priority> priorities) {
+        Priority priority = new Priority();
+        if (descriptor.isTest()) {
+            String key = ScenarioHistory.keyOf(descriptor).orElse("");
+            priority.failed = history.hasFailed(key) ? 1 : 0;
+            priority.duration = history.getDuration(key).orElse(fallback);
+        }
+        for (TestDescriptor child : descriptor.getChildren()) {
+            Priority childPriority = priorityOf(child, history, fallback, priorities);
+            priority.failed += childPriority.failed;
+            priority.duration += childPriority.duration;
+        }
+        priorities.put(descriptor, priority);
+        return priority;
+    }
+    
+    private static void sortChildren(TestDescriptor parent, Map<TestDescriptor, Priority> priorities) {
+        List<TestDescriptor> children = new ArrayList<>(parent.getChildren());
+        if (children.size() > 1) {
+            // Stable sort: ties keep feature file order
+            children.sort(Comparator.comparingInt((TestDescriptor child) -> priorities.get(child).failed > 0 ? 0 : 1)
+                .thenComparing(child -> priorities.get(child).duration, Comparator.reverseOrder()));
+            for (TestDescriptor child : children) {
+                parent.removeChild(child);
+            }
+            for (TestDescriptor child : children) {
+                parent.addChild(child);
+            }
+        }
+        for (TestDescriptor child : children) {
+            sortChildren(child, priorities);
+        }
+    }
+    
+    /**
+     * Failed scenario count and total previous duration of a subtree
+     */
+    private static final class Priority {
+        
+        private int failed;
+        private long duration;
+    }
+}
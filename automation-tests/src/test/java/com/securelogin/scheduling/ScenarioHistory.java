@@ -0,0 +1,206 @@
+package com.securelogin.scheduling;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Scenario History
+ * Durations and results of each scenario in a previous run, read from
+ * Cucumber's JSON report. Scenarios are keyed by feature file name and
+ * line, e.g. "01_functional_login.feature:10", which is stable across
+ * classpath and file-system runs
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ScenarioHistory {
+    
+    public static final String DEFAULT_REPORT = "target/cucumber-reports/cucumber.json";
+    
+    private final Map<String, Long> durations;
+    private final Map<String, Boolean> failures;
+    
+    private ScenarioHistory(Map<String, Long> durations, Map<String, Boolean> failures) {
+        this.durations = durations;
+        this.failures = failures;
+    }
+    
+    /**
+     * Loads the history from a Cucumber JSON report
+     * A missing or unreadable report gives an empty history
+     * 
+     * @param report Path of cucumber.json
+     * @return Scenario history
+     */
+    @SuppressWarnings("unchecked")
+    public static ScenarioHistory load(Path report) {
+        Map<String, Long> durations = new HashMap<>();
+        Map<String, Boolean> failures = new HashMap<>();
+        if (!Files.isRegularFile(report)) {
+            return new ScenarioHistory(durations, failures);
+        }
+        try {
+            List<Map<String, Object>> features = new Json().toType(
+                new String(Files.readAllBytes(report), StandardCharsets.UTF_8), List.class);
+            for (Map<String, Object> feature : features) {
+                String file = fileName(String.valueOf(feature.get("uri")));
+                long background = 0;
+                boolean backgroundFailed = false;
+                for (Map<String, Object> element : list(feature.get("elements"))) {
+                    long duration = sumDurations(element);
+                    boolean failed = hasFailure(element);
+                    if ("background".equals(element.get("type"))) {
+                        // Cucumber reports the background before every scenario it belongs to
+                        background = duration;
+                        backgroundFailed = failed;
+                        continue;
+                    }
+                    String key = file + ":" + ((Number) element.get("line")).intValue();
+                    durations.merge(key, background + duration, Long::sum);
+                    failures.merge(key, backgroundFailed || failed, Boolean::logicalOr);
+                    background = 0;
+                    backgroundFailed = false;
+                }
+            }
+        } catch (IOException | JsonException | ClassCastException e) {
+            System.err.println("Ignoring unreadable scenario history " + report + ": " + e.getMessage());
+        }
+        return new ScenarioHistory(durations, failures);
+    }
+    
+    /**
+     * Loads the history from -Dscenario.history, or the default report
+     * 
+     * @return Scenario history
+     */
+    public static ScenarioHistory loadDefault() {
+        return load(Paths.get(System.getProperty("scenario.history", DEFAULT_REPORT)));
+    }
+    
+    /**
+     * Checks if the history has any scenarios
+     * 
+     * @return true if no previous results were found
+     */
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+    
+    /**
+     * Gets the duration of a scenario in the previous run
+     * 
+     * @param key Scenario key
+     * @return Duration in nanoseconds, if the scenario ran
+     */
+    public Optional<Long> getDuration(String key) {
+        return Optional.ofNullable(durations.get(key));
+    }
+    
+    /**
+     * Checks if a scenario failed in the previous run
+     * 
+     * @param key Scenario key
+     * @return true if the scenario failed
+     */
+    public boolean hasFailed(String key) {
+        return failures.getOrDefault(key, false);
+    }
+    
+    /**
+     * Gets the mean duration of all scenarios, used for scenarios without history
+     * 
+     * @return Mean duration in nanoseconds, 1 if the history is empty
+     */
+    public long getMeanDuration() {
+        return durations.isEmpty()
+            ? 1
+            : Math.max(1, durations.values().stream().mapToLong(Long::longValue).sum() / durations.size());
+    }
+    
+    /**
+     * Builds the scenario key of a JUnit Platform test descriptor
+     * 
+     * @param descriptor Scenario (pickle) descriptor from the Cucumber engine
+     * @return Key, or empty if the descriptor has no feature file source
+     */
+    public static Optional<String> keyOf(TestDescriptor descriptor) {
+        Optional<TestSource> source = descriptor.getSource();
+        if (source.isPresent() && source.get() instanceof ClasspathResourceSource) {
+            ClasspathResourceSource resource = (ClasspathResourceSource) source.get();
+            return resource.getPosition().map(position ->
+                keyOf(resource.getClasspathResourceName(), position.getLine()));
+        }
+        if (source.isPresent() && source.get() instanceof FileSource) {
+            FileSource file = (FileSource) source.get();
+            return file.getPosition().map(FilePosition::getLine).map(line ->
+                file.getFile().getName() + ":" + line);
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Key of the scenario at a line of a feature file
+     * 
+     * @param uri Feature URI or resource name, e.g. classpath:features/01_functional_login.feature
+     * @param line Scenario line
+     * @return Key like "01_functional_login.feature:10"
+     */
+    static String keyOf(String uri, int line) {
+        return fileName(uri) + ":" + line;
+    }
+    
+    private static String fileName(String uri) {
+        return uri.substring(Math.max(uri.lastIndexOf('/'), uri.lastIndexOf(':')) + 1);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> list(Object value) {
+        return value instanceof List ? (List<Map<String, Object>>) value : Collections.emptyList();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static long sumDurations(Map<String, Object> element) {
+        long total = 0;
+        for (String part : new String[] {"before", "steps", "after"}) {
+            for (Map<String, Object> step : list(element.get(part))) {
+                Object result = step.get("result");
+                if (result instanceof Map) {
+                    Object duration = ((Map<String, Object>) result).get("duration");
+                    if (duration instanceof Number) {
+                        total += ((Number) duration).longValue();
+                    }
+                }
+            }
+        }
+        return total;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static boolean hasFailure(Map<String, Object> element) {
+        for (String part : new String[] {"before", "steps", "after"}) {
+            for (Map<String, Object> step : list(element.get(part))) {
+                Object result = step.get("result");
+                if (result instanceof Map && "failed".equals(((Map<String, Object>) result).get("status"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,128 @@
+package com.securelogin.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scenario History Test
+ * Reading durations and failures from a Cucumber JSON report, and the
+ * scenario keys shared by the report and the discovered test plan
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+class ScenarioHistoryTest {
+    
+    private static final String REPORT = "[{\"uri\": \"classpath:features/01_functional_login.feature\", \"elements\": ["
+        + background(100)
+        + scenario(9, step("passed", 1_000), step("passed", 500))
+        + "," + background(100)
+        + scenario(17, step("passed", 2_000), step("failed", 3_000))
+        + "]},"
+        + "{\"uri\": \"file:src/test/resources/features/02_boundary_testing.feature\", \"elements\": ["
+        + scenario(12, step("skipped", 0))
+        + "]}]";
+        
+    @TempDir
+    Path dir;
+    
+    @Test
+    void durationsIncludeTheBackgroundReportedBeforeEachScenario() throws IOException {
+        ScenarioHistory history = ScenarioHistory.load(write(REPORT));
+        assertEquals(Optional.of(1_600L), history.getDuration("01_functional_login.feature:9"));
+        assertEquals(Optional.of(5_100L), history.getDuration("01_functional_login.feature:17"));
+        assertEquals(Optional.of(0L), history.getDuration("02_boundary_testing.feature:12"));
+        assertEquals(Optional.empty(), history.getDuration("01_functional_login.feature:99"));
+    }
+    
+    @Test
+    void failedStepMarksTheScenarioFailed() throws IOException {
+        ScenarioHistory history = ScenarioHistory.load(write(REPORT));
+        assertTrue(history.hasFailed("01_functional_login.feature:17"));
+        assertFalse(history.hasFailed("01_functional_login.feature:9"));
+        assertFalse(history.hasFailed("02_boundary_testing.feature:12"));
+        assertFalse(history.hasFailed("unknown.feature:1"));
+    }
+    
+    @Test
+    void meanDurationCoversEveryScenario() throws IOException {
+        ScenarioHistory history = ScenarioHistory.load(write(REPORT));
+        assertEquals((1_600 + 5_100 + 0) / 3, history.getMeanDuration());
+    }
+    
+    @Test
+    void missingReportGivesAnEmptyHistory() {
+        ScenarioHistory history = ScenarioHistory.load(dir.resolve("missing.json"));
+        assertTrue(history.isEmpty());
+        assertEquals(1, history.getMeanDuration());
+    }
+    
+    @Test
+    void unreadableReportGivesAnEmptyHistory() throws IOException {
+        assertTrue(ScenarioHistory.load(write("{\"not\": \"a report\"")).isEmpty());
+        assertTrue(ScenarioHistory.load(write("{\"uri\": \"a.feature\"}")).isEmpty());
+    }
+    
+    @Test
+    void keysUseTheFeatureFileNameAndLine() {
+        assertEquals("01_functional_login.feature:9",
+            ScenarioHistory.keyOf("classpath:features/01_functional_login.feature", 9));
+        assertEquals("01_functional_login.feature:9", ScenarioHistory.keyOf("01_functional_login.feature", 9));
+        assertEquals("login.feature:3", ScenarioHistory.keyOf("file:///C:/tests/login.feature", 3));
+    }
+    
+    @Test
+    void descriptorKeysMatchReportKeys() {
+        assertEquals(Optional.of("01_functional_login.feature:9"), ScenarioHistory.keyOf(descriptor(
+            ClasspathResourceSource.from("features/01_functional_login.feature", FilePosition.from(9, 3)))));
+        assertEquals(Optional.of("01_functional_login.feature:9"), ScenarioHistory.keyOf(descriptor(
+            FileSource.from(new File("src/test/resources/features/01_functional_login.feature"), FilePosition.from(9)))));
+        assertEquals(Optional.empty(), ScenarioHistory.keyOf(descriptor(
+            ClasspathResourceSource.from("features/01_functional_login.feature"))));
+        assertEquals(Optional.empty(), ScenarioHistory.keyOf(descriptor(null)));
+    }
+    
+    private Path write(String json) throws IOException {
+        Path report = Files.createTempFile(dir, "cucumber", ".json");
+        Files.write(report, json.getBytes(StandardCharsets.UTF_8));
+        return report;
+    }
+    
+    private static String background(long duration) {
+        return "{\"type\": \"background\", \"line\": 6, \"steps\": [" + step("passed", duration) + "]},";
+    }
+    
+    private static String scenario(int line, String... steps) {
+        return "{\"type\": \"scenario\", \"line\": " + line + ", \"steps\": [" + String.join(",", steps) + "]}";
+    }
+    
+    private static String step(String status, long duration) {
+        return "{\"result\": {\"status\": \"" + status + "\", \"duration\": " + duration + "}}";
+    }
+    
+    private static AbstractTestDescriptor descriptor(TestSource source) {
+        return new AbstractTestDescriptor(UniqueId.forEngine("test").append("scenario", "1"), "scenario", source) {
+            @Override
+            public Type getType() {
+                return Type.TEST;
+            }
+        };
+    }
+}
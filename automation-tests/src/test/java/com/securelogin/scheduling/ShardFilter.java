@@ -0,0 +1,176 @@
+package com.securelogin.scheduling;
+
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shard Filter
+ * Keeps only the scenarios of one shard when run with -Dshard=i/K, so K
+ * JVMs or CI agents can split the suite between them. Every shard sees
+ * the same discovered scenarios and history, so all of them compute the
+ * same partition without coordinating
+ * 
+ * Scenarios are balanced by their duration in the previous run
+ * (-Dscenario.history, default target/cucumber-reports/cucumber.json):
+ * longest first, each onto the shard with the least total time.
+ * Scenarios without history count as the mean duration, so with no
+ * history at all the split is by count. Scenarios excluded by
+ * -Dcucumber.filter.tags are left out of the balance
+ * 
+ * Registered through META-INF/services; does nothing without -Dshard
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+    
+    private static final String SHARD = System.getProperty("shard");
+    private static final String TAG_FILTER = System.getProperty("cucumber.filter.tags");
+    
+    // Scenarios of this shard per discovered test plan
+    private final Map<UniqueId, Set<UniqueId>> selected = new ConcurrentHashMap<>();
+    
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (SHARD == null || SHARD.isEmpty() || !descriptor.isTest()) {
+            return FilterResult.included("sharding disabled or container");
+        }
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        TestDescriptor engineRoot = root;
+        Set<UniqueId> shard = selected.computeIfAbsent(root.getUniqueId(), id -> partition(engineRoot));
+        return FilterResult.includedIf(shard.contains(descriptor.getUniqueId()),
+            () -> "in shard " + SHARD, () -> "not in shard " + SHARD);
+    }
+    
+    /**
+     * Splits the scenarios under a root into shards
+     * 
+     * @param root Engine root descriptor
+     * @return Scenarios of the selected shard
+     */
+    private static Set<UniqueId> partition(TestDescriptor root) {
+        int[] spec = parseShard(SHARD);
+        int index = spec[0] - 1;
+        int count = spec[1];
+        
+        ScenarioHistory history = ScenarioHistory.loadDefault();
+        long fallback = history.getMeanDuration();
+        Expression tags = TAG_FILTER == null || TAG_FILTER.isEmpty() ? null : TagExpressionParser.parse(TAG_FILTER);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (TestDescriptor test : root.getDescendants()) {
+            // Scenarios the tag filter will skip take no time, leave them out of the balance
+            if (test.isTest() && (tags == null || tags.evaluate(cucumberTags(test)))) {
+                String key = ScenarioHistory.keyOf(test).orElse(test.getUniqueId().toString());
+                scenarios.add(new Scenario(test.getUniqueId(), key, history.getDuration(key).orElse(fallback)));
+            }
+        }
+        List<Scenario> selected = balance(scenarios, count).get(index);
+        Set<UniqueId> shard = new HashSet<>();
+        long load = 0;
+        for (Scenario scenario : selected) {
+            shard.add(scenario.id);
+            load += scenario.duration;
+        }
+        System.out.println("✓ Shard " + SHARD + ": " + shard.size() + " of " + scenarios.size() + " scenarios, ~"
+            + load / 1_000_000 + " ms" + (history.isEmpty() ? " (no history, split by count)" : ""));
+        return shard;
+    }
+    
+    /**
+     * Splits scenarios into shards of similar total duration
+     * Longest processing time first: each scenario, longest first, goes
+     * to the shard with the least time so far (the lowest index on a tie)
+     * 
+     * @param scenarios Scenarios to split
+     * @param count Number of shards
+     * @return Scenarios of each shard, in assignment order
+     */
+    static List<List<Scenario>> balance(List<Scenario> scenarios, int count) {
+        List<Scenario> sorted = new ArrayList<>(scenarios);
+        // Ties broken by key so every shard agrees
+        sorted.sort(Comparator.comparingLong((Scenario s) -> s.duration).reversed()
+            .thenComparing(s -> s.key));
+            
+        long[] load = new long[count];
+        List<List<Scenario>> shards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Scenario scenario : sorted) {
+            int target = 0;
+            for (int i = 1; i < count; i++) {
+                if (load[i] < load[target]) {
+                    target = i;
+                }
+            }
+            load[target] += scenario.duration;
+            shards.get(target).add(scenario);
+        }
+        return shards;
+    }
+    
+    static List<String> cucumberTags(TestDescriptor test) {
+        List<String> tags = new ArrayList<>();
+        for (TestTag tag : test.getTags()) {
+            tags.add("@" + tag.getName());
+        }
+        return tags;
+    }
+    
+    /**
+     * Parses "i/K" into {i, K}
+     * 
+     * @param shard Shard specification, 1-based
+     * @return Shard index and count
+     */
+    static int[] parseShard(String shard) {
+        String[] parts = shard.trim().split("/");
+        try {
+            int index = Integer.parseInt(parts[0].trim());
+            int count = Integer.parseInt(parts[1].trim());
+            if (parts.length == 2 && count > 0 && index >= 1 && index <= count) {
+                return new int[] {index, count};
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid -Dshard=" + shard + ", expected i/K with 1 <= i <= K");
+    }
+    
+    static final class Scenario {
+        
+        private final UniqueId id;
+        private final String key;
+        private final long duration;
+        
+        Scenario(UniqueId id, String key, long duration) {
+            this.id = id;
+            this.key = key;
+            this.duration = duration;
+        }
+        
+        String getKey() {
+            return key;
+        }
+        
+        long getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.securelogin.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.UniqueId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Shard Filter Test
+ * Longest-processing-time split and -Dshard parsing of ShardFilter
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+class ShardFilterTest {
+    
+    @Test
+    void longestScenariosGoToTheLeastLoadedShard() {
+        List<List<ShardFilter.Scenario>> shards = ShardFilter.balance(
+            scenarios(7, 5, 4, 3, 2, 1), 2);
+        assertEquals(List.of("s7", "s3", "s1"), keys(shards.get(0)));
+        assertEquals(List.of("s5", "s4", "s2"), keys(shards.get(1)));
+        assertEquals(11, total(shards.get(0)));
+        assertEquals(11, total(shards.get(1)));
+    }
+    
+    @Test
+    void oneLongScenarioGetsAShardOfItsOwn() {
+        List<List<ShardFilter.Scenario>> shards = ShardFilter.balance(
+            scenarios(10, 2, 2, 2, 2, 2), 2);
+        assertEquals(List.of("s10"), keys(shards.get(0)));
+        assertEquals(5, shards.get(1).size());
+    }
+    
+    @Test
+    void everyScenarioLandsInExactlyOneShard() {
+        List<ShardFilter.Scenario> scenarios = scenarios(9, 8, 8, 7, 5, 5, 5, 3, 2, 1, 1);
+        List<List<ShardFilter.Scenario>> shards = ShardFilter.balance(scenarios, 3);
+        List<String> assigned = new ArrayList<>();
+        shards.forEach(shard -> assigned.addAll(keys(shard)));
+        Collections.sort(assigned);
+        List<String> expected = keys(scenarios);
+        Collections.sort(expected);
+        assertEquals(expected, assigned);
+    }
+    
+    @Test
+    void equalDurationsSplitByCount() {
+        List<List<ShardFilter.Scenario>> shards = ShardFilter.balance(
+            scenarios(1, 1, 1, 1, 1, 1, 1), 3);
+        assertEquals(List.of(3, 2, 2), shards.stream().map(List::size).collect(Collectors.toList()));
+    }
+    
+    @Test
+    void discoveryOrderDoesNotChangeTheSplit() {
+        List<ShardFilter.Scenario> scenarios = scenarios(4, 4, 3, 3, 2, 2, 1, 1);
+        List<List<String>> expected = ShardFilter.balance(scenarios, 3).stream()
+            .map(ShardFilterTest::keys).collect(Collectors.toList());
+        List<ShardFilter.Scenario> shuffled = new ArrayList<>(scenarios);
+        Collections.shuffle(shuffled, new Random(42));
+        List<List<String>> actual = ShardFilter.balance(shuffled, 3).stream()
+            .map(ShardFilterTest::keys).collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+    
+    @Test
+    void moreShardsThanScenariosLeavesShardsEmpty() {
+        List<List<ShardFilter.Scenario>> shards = ShardFilter.balance(scenarios(3, 2), 4);
+        assertEquals(4, shards.size());
+        assertTrue(shards.get(2).isEmpty());
+        assertTrue(shards.get(3).isEmpty());
+    }
+    
+    @Test
+    void shardSpecIsOneBased() {
+        assertArrayEquals(new int[] {1, 4}, ShardFilter.parseShard("1/4"));
+        assertArrayEquals(new int[] {4, 4}, ShardFilter.parseShard(" 4 / 4 "));
+        assertThrows(IllegalArgumentException.class, () -> ShardFilter.parseShard("0/4"));
+        assertThrows(IllegalArgumentException.class, () -> ShardFilter.parseShard("5/4"));
+        assertThrows(IllegalArgumentException.class, () -> ShardFilter.parseShard("1/0"));
+        assertThrows(IllegalArgumentException.class, () -> ShardFilter.parseShard("2"));
+        assertThrows(IllegalArgumentException.class, () -> ShardFilter.parseShard("a/b"));
+    }
+    
+    /**
+     * Builds scenarios keyed by their duration; repeated durations get a suffix
+     */
+    private static List<ShardFilter.Scenario> scenarios(long... durations) {
+        List<ShardFilter.Scenario> scenarios = new ArrayList<>();
+        List<String> used = new ArrayList<>();
+        for (long duration : durations) {
+            String key = "s" + duration;
+            while (used.contains(key)) {
+                key += "'";
+            }
+            used.add(key);
+            scenarios.add(new ShardFilter.Scenario(UniqueId.forEngine("test").append("scenario", key), key, duration));
+        }
+        return scenarios;
+    }
+    
+    private static List<String> keys(List<ShardFilter.Scenario> scenarios) {
+        return scenarios.stream().map(ShardFilter.Scenario::getKey).collect(Collectors.toList());
+    }
+    
+    private static long total(List<ShardFilter.Scenario> scenarios) {
+        return scenarios.stream().mapToLong(ShardFilter.Scenario::getDuration).sum();
+    }
+}
@@ -1,13 +1,20 @@
 package com.securelogin.steps;
 
+import com.securelogin.backend.EmbeddedLoginServer;
+import com.securelogin.pages.BasePage;
+import com.securelogin.reporting.FailureArtifacts;
+import com.securelogin.reporting.PageLoadTimings;
+import com.securelogin.utils.ConfigReader;
 import com.securelogin.utils.DriverManager;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
+import java.time.Duration;
+
 /**
  * Cucumber Hooks for setup and teardown operations
  * Executes before and after each scenario
@@ -17,12 +24,23 @@ import org.openqa.selenium.WebDriver;
  */
 public class Hooks {
     
-    private DriverManager driverManager;
     private WebDriver driver;
     
+    /**
+     * Executes once before all scenarios
+     * Starts the in-JVM backend if -Dapi.url=embedded selects it, before
+     * the frontend first calls it, and starts launching the warm browser
+     * pool if one is configured
+     */
+    @BeforeAll
+    public static void beforeAll() {
+        System.out.println("✓ Backend API: " + EmbeddedLoginServer.startConfigured(ConfigReader.getInstance()));
+        DriverManager.warmUp();
+    }
+    
     /**
      * Executes before each scenario
-     * Initializes WebDriver and opens browser
+     * Checks out this thread's WebDriver from the shared pool
      * 
      * @param scenario Current scenario information
      */
@@ -32,36 +50,67 @@ public class Hooks {
         System.out.println("║  Starting Test: " + scenario.getName());
         System.out.println("╚════════════════════════════════════════════════════════════╝");
         
-        driverManager = new DriverManager();
-        driver = driverManager.getDriver();
+        // Scenarios tagged @keystrokes type every value key by key
+        BasePage.setKeystrokesOnly(scenario.getSourceTagNames().contains("@keystrokes"));
+        
+        boolean reused = DriverManager.hasDriver();
+        driver = DriverManager.acquireDriver();
+        
+        System.out.println(reused ? "✓ Browser session reused" : "✓ Browser initialized successfully");
         
-        System.out.println("✓ Browser initialized successfully");
+        // Answer the login API inside the browser: @slow-network delays every response
+        boolean slowNetwork = scenario.getSourceTagNames().contains("@slow-network");
+        if (slowNetwork || DriverManager.isApiStubEnabled() || scenario.getSourceTagNames().contains("@stub-api")) {
+            if (DriverManager.supportsApiStub()) {
+                Duration latency = slowNetwork ? DriverManager.getSlowNetworkLatency() : DriverManager.getApiStubLatency();
+                DriverManager.stubLoginApi(latency);
+                System.out.println("✓ Login API stubbed (" + latency.toMillis() + " ms latency)");
+            } else {
+                System.out.println("→ Login API stubbing needs Chrome or Edge, using the real backend");
+            }
+        }
     }
     
     /**
      * Executes after each scenario
-     * Takes screenshot on failure and closes browser
+     * Captures failure artifacts and releases the browser
+     * (quit, or reset for the next scenario when session reuse is on)
      * 
      * @param scenario Current scenario information
      */
     @After
     public void tearDown(Scenario scenario) {
         if (driver != null) {
-            // Take screenshot if scenario failed
+            // Screenshot, DOM and console are captured here, written in the background
             if (scenario.isFailed()) {
-                System.out.println("✗ Test Failed - Capturing screenshot");
-                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-                scenario.attach(screenshot, "image/png", scenario.getName());
+                System.out.println("✗ Test Failed - Capturing screenshot, DOM and console");
+                FailureArtifacts.capture(driver, scenario);
             } else {
                 System.out.println("✓ Test Passed");
             }
             
-            // Close browser
-            driverManager.quitDriver();
-            System.out.println("✓ Browser closed");
+            // Close or recycle browser
+            boolean kept = DriverManager.releaseDriver(scenario.isFailed());
+            System.out.println(kept ? "✓ Browser reset for next scenario" : "✓ Browser closed");
         }
         
         System.out.println("═══════════════════════════════════════════════════════════");
         System.out.println();
     }
+    
+    /**
+     * Executes once after all scenarios
+     * Prints how many element checks came back negative without
+     * waiting for the full implicit wait and the average page load
+     * time, and waits for failure artifacts still being written
+     */
+    @AfterAll
+    public static void afterAll() {
+        FailureArtifacts.awaitWritten(Duration.ofSeconds(60));
+        System.out.println("Element probes: " + BasePage.getProbeCount() + " run, "
+            + BasePage.getProbeTimeoutCount() + " negative after "
+            + BasePage.getProbeTimeout().toMillis() + " ms instead of "
+            + DriverManager.getImplicitWait().getSeconds() + " s implicit wait");
+        PageLoadTimings.printSummary(DriverManager.getBrowserName(), DriverManager.getBrowserProfile());
+    }
 }
@@ -4,7 +4,6 @@ import com.securelogin.pages.DashboardPage;
 import com.securelogin.pages.LoginPage;
 import com.securelogin.utils.ConfigReader;
 import com.securelogin.utils.DriverManager;
-import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -32,7 +31,7 @@ public class LoginSteps {
         this.driver = DriverManager.getDriver();
         this.loginPage = new LoginPage(driver);
         this.dashboardPage = new DashboardPage(driver);
-        this.config = new ConfigReader();
+        this.config = ConfigReader.getInstance();
     }
     
     // ==================== GIVEN STEPS ====================
@@ -69,7 +68,6 @@ public class LoginSteps {
      * @param password Password to enter
      */
     @When("the user enters password {string}")
-    @And("the user enters password {string}")
     public void theUserEntersPassword(String password) {
         loginPage.enterPassword(password);
         System.out.println("→ Entered password: " + maskPassword(password));
@@ -77,18 +75,15 @@ public class LoginSteps {
     
     /**
      * Step: When the user clicks the login button
-     * Clicks the login button
+     * Clicks the login button and waits for the login attempt to finish
      */
     @When("the user clicks the login button")
-    @And("the user clicks the login button")
     public void theUserClicksTheLoginButton() {
         loginPage.clickLoginButton();
         System.out.println("→ Clicked login button");
-        // Small pause to allow for server response
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        // Wait for the server response to be rendered
+        if (!loginPage.waitForLoginToComplete()) {
+            System.out.println("→ Login did not reach a final state in time");
         }
     }
     
@@ -110,7 +105,7 @@ public class LoginSteps {
     public void theUserMovesFocusAwayFromUsernameField() {
         loginPage.blurUsernameField();
         System.out.println("→ Moved focus away from username field");
-        try { Thread.sleep(500); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        loginPage.waitForUsernameValidation();
     }
     
     /**
@@ -121,7 +116,7 @@ public class LoginSteps {
     public void theUserMovesFocusAwayFromPasswordField() {
         loginPage.blurPasswordField();
         System.out.println("→ Moved focus away from password field");
-        try { Thread.sleep(500); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+        loginPage.waitForPasswordValidation();
     }
     
     /**
@@ -198,7 +193,6 @@ public class LoginSteps {
      * @param expectedText Expected text in error message
      */
     @Then("the error message should contain {string}")
-    @And("the error message should contain {string}")
     public void theErrorMessageShouldContain(String expectedText) {
         String actualMessage = loginPage.getGeneralErrorMessage();
         Assert.assertTrue(
@@ -213,7 +207,6 @@ public class LoginSteps {
      * Verifies user is still on login page
      */
     @Then("the user should remain on the login page")
-    @And("the user should remain on the login page")
     public void theUserShouldRemainOnTheLoginPage() {
         Assert.assertTrue(
             "User should remain on login page",
@@ -282,7 +275,7 @@ public class LoginSteps {
     public void aLoadingIndicatorShouldBeDisplayed() {
         Assert.assertTrue(
             "Loading indicator should be displayed",
-            loginPage.isLoadingIndicatorDisplayed()
+            loginPage.wasLoadingIndicatorDisplayed()
         );
         System.out.println("✓ Loading indicator displayed");
     }
@@ -294,9 +287,12 @@ public class LoginSteps {
      * @param expectedText Expected button text
      */
     @Then("the login button should show {string} text")
-    @And("the login button should show {string} text")
     public void theLoginButtonShouldShowText(String expectedText) {
-        String actualText = loginPage.getLoginButtonText();
+        // Loading text is only shown while the request is in flight
+        String actualText = loginPage.getLoadingButtonText();
+        if (actualText == null || !actualText.contains(expectedText)) {
+            actualText = loginPage.getLoginButtonText();
+        }
         Assert.assertTrue(
             "Login button should show '" + expectedText + "' but shows: " + actualText,
             actualText.contains(expectedText)
@@ -322,7 +318,6 @@ public class LoginSteps {
      * Verifies error message visibility
      */
     @Then("the error message should be visible")
-    @And("the error message should be visible")
     public void theErrorMessageShouldBeVisible() {
         Assert.assertTrue(
             "Error message should be visible",
@@ -336,7 +331,6 @@ public class LoginSteps {
      * Verifies error message appears with animation
      */
     @Then("an error message should appear with animation")
-    @And("an error message should appear with animation")
     public void anErrorMessageShouldAppearWithAnimation() {
         Assert.assertTrue(
             "Error message should appear",
@@ -353,7 +347,7 @@ public class LoginSteps {
     public void theUsernameFieldShouldHaveALabel() {
         Assert.assertTrue(
             "Username field should have a label",
-            loginPage.hasUsernameLabel()
+            loginPage.currentSnapshot().isUsernameLabelDisplayed()
         );
         System.out.println("✓ Username field has label");
     }
@@ -363,11 +357,10 @@ public class LoginSteps {
      * Verifies password field has an associated label
      */
     @Then("the password field should have a label")
-    @And("the password field should have a label")
     public void thePasswordFieldShouldHaveALabel() {
         Assert.assertTrue(
             "Password field should have a label",
-            loginPage.hasPasswordLabel()
+            loginPage.currentSnapshot().isPasswordLabelDisplayed()
         );
         System.out.println("✓ Password field has label");
     }
@@ -377,9 +370,8 @@ public class LoginSteps {
      * Verifies login button has accessible text
      */
     @Then("the login button should have accessible text")
-    @And("the login button should have accessible text")
     public void theLoginButtonShouldHaveAccessibleText() {
-        String buttonText = loginPage.getLoginButtonText();
+        String buttonText = loginPage.currentSnapshot().getLoginButtonText();
         Assert.assertFalse(
             "Login button should have text",
             buttonText.isEmpty()
@@ -395,7 +387,7 @@ public class LoginSteps {
     public void theUsernameFieldShouldHaveAriaLabelAttribute() {
         Assert.assertTrue(
             "Username field should have aria-label",
-            loginPage.hasUsernameAriaLabel()
+            hasText(loginPage.currentSnapshot().getUsernameAriaLabel())
         );
         System.out.println("✓ Username field has aria-label");
     }
@@ -405,11 +397,10 @@ public class LoginSteps {
      * Verifies password field has aria-label for accessibility
      */
     @Then("the password field should have aria-label attribute")
-    @And("the password field should have aria-label attribute")
     public void thePasswordFieldShouldHaveAriaLabelAttribute() {
         Assert.assertTrue(
             "Password field should have aria-label",
-            loginPage.hasPasswordAriaLabel()
+            hasText(loginPage.currentSnapshot().getPasswordAriaLabel())
         );
         System.out.println("✓ Password field has aria-label");
     }
@@ -419,11 +410,10 @@ public class LoginSteps {
      * Verifies login button has aria-label for accessibility
      */
     @Then("the login button should have aria-label attribute")
-    @And("the login button should have aria-label attribute")
     public void theLoginButtonShouldHaveAriaLabelAttribute() {
         Assert.assertTrue(
             "Login button should have aria-label",
-            loginPage.hasLoginButtonAriaLabel()
+            hasText(loginPage.currentSnapshot().getLoginButtonAriaLabel())
         );
         System.out.println("✓ Login button has aria-label");
     }
@@ -436,7 +426,7 @@ public class LoginSteps {
      */
     @Then("the username field should have placeholder {string}")
     public void theUsernameFieldShouldHavePlaceholder(String expectedPlaceholder) {
-        String actualPlaceholder = loginPage.getUsernamePlaceholder();
+        String actualPlaceholder = loginPage.currentSnapshot().getUsernamePlaceholder();
         Assert.assertEquals(
             "Username placeholder should match",
             expectedPlaceholder,
@@ -452,9 +442,8 @@ public class LoginSteps {
      * @param expectedPlaceholder Expected placeholder text
      */
     @Then("the password field should have placeholder {string}")
-    @And("the password field should have placeholder {string}")
     public void thePasswordFieldShouldHavePlaceholder(String expectedPlaceholder) {
-        String actualPlaceholder = loginPage.getPasswordPlaceholder();
+        String actualPlaceholder = loginPage.currentSnapshot().getPasswordPlaceholder();
         Assert.assertEquals(
             "Password placeholder should match",
             expectedPlaceholder,
@@ -471,7 +460,7 @@ public class LoginSteps {
     public void theUsernameFieldShouldDisplayAUserIcon() {
         Assert.assertTrue(
             "Username field should display icon",
-            loginPage.isUsernameIconDisplayed()
+            loginPage.currentSnapshot().isUsernameIconDisplayed()
         );
         System.out.println("✓ Username icon displayed");
     }
@@ -481,11 +470,10 @@ public class LoginSteps {
      * Verifies password field has a lock icon
      */
     @Then("the password field should display a lock icon")
-    @And("the password field should display a lock icon")
     public void thePasswordFieldShouldDisplayALockIcon() {
         Assert.assertTrue(
             "Password field should display lock icon",
-            loginPage.isPasswordIconDisplayed()
+            loginPage.currentSnapshot().isPasswordIconDisplayed()
         );
         System.out.println("✓ Password lock icon displayed");
     }
@@ -508,7 +496,6 @@ public class LoginSteps {
      * Verifies login page is no longer visible
      */
     @Then("the login page should not be visible")
-    @And("the login page should not be visible")
     public void theLoginPageShouldNotBeVisible() {
         Assert.assertFalse(
             "Login page should not be visible",
@@ -522,7 +509,6 @@ public class LoginSteps {
      * Verifies logout button is displayed
      */
     @Then("a logout button should be visible")
-    @And("a logout button should be visible")
     public void aLogoutButtonShouldBeVisible() {
         Assert.assertTrue(
             "Logout button should be visible",
@@ -537,7 +523,7 @@ public class LoginSteps {
      */
     @Then("the password field should not display plain text")
     public void thePasswordFieldShouldNotDisplayPlainText() {
-        String fieldType = loginPage.getPasswordFieldType();
+        String fieldType = loginPage.currentSnapshot().getPasswordFieldType();
         Assert.assertEquals(
             "Password field should be of type 'password'",
             "password",
@@ -553,9 +539,8 @@ public class LoginSteps {
      * @param expectedType Expected field type
      */
     @Then("the password field type should be {string}")
-    @And("the password field type should be {string}")
     public void thePasswordFieldTypeShouldBe(String expectedType) {
-        String actualType = loginPage.getPasswordFieldType();
+        String actualType = loginPage.currentSnapshot().getPasswordFieldType();
         Assert.assertEquals(
             "Password field type should match",
             expectedType,
@@ -569,7 +554,6 @@ public class LoginSteps {
      * Verifies disabled button has reduced opacity
      */
     @Then("the login button should have reduced opacity")
-    @And("the login button should have reduced opacity")
     public void theLoginButtonShouldHaveReducedOpacity() {
         Assert.assertTrue(
             "Login button should be disabled (reduced opacity)",
@@ -583,7 +567,6 @@ public class LoginSteps {
      * Verifies login button is clickable
      */
     @Then("the login button should be clickable")
-    @And("the login button should be clickable")
     public void theLoginButtonShouldBeClickable() {
         Assert.assertTrue(
             "Login button should be clickable",
@@ -594,6 +577,16 @@ public class LoginSteps {
     
     // ==================== HELPER METHODS ====================
     
+    /**
+     * Checks if an attribute value is present and non-empty
+     * 
+     * @param value Attribute value
+     * @return true if value has text, false otherwise
+     */
+    private boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+    
     /**
      * Masks password for logging purposes
      * 
@@ -0,0 +1,161 @@
+package com.securelogin.utils;
+
+import com.securelogin.scheduling.ImpactRecorder;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP client for the login backend API
+ * Calls the REST endpoints directly, without a browser, over one shared
+ * HttpClient whose keep-alive connections are pooled across all threads
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class ApiClient {
+    
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Json JSON = new Json();
+    
+    private final String apiUrl;
+    
+    /**
+     * Constructor for a specific API URL
+     * 
+     * @param apiUrl Base URL of the API, e.g. http://localhost:5000
+     */
+    public ApiClient(String apiUrl) {
+        this.apiUrl = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+    }
+    
+    /**
+     * Sends POST /api/auth/login
+     * 
+     * @param username Username to send
+     * @param password Password to send
+     * @return Parsed response
+     */
+    public ApiResponse login(String username, String password) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", username);
+        body.put("password", password);
+        ImpactRecorder.recordLogin(username, password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/api/auth/login"))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(JSON.toJson(body)))
+            .build();
+        return send(request);
+    }
+    
+    /**
+     * Sends GET /api/health
+     * 
+     * @return Parsed response
+     */
+    public ApiResponse health() {
+        ImpactRecorder.recordHealthCheck();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/api/health"))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        return send(request);
+    }
+    
+    /**
+     * Sends a request and parses the JSON body
+     * 
+     * @param request Request to send
+     * @return Parsed response
+     */
+    @SuppressWarnings("unchecked")
+    private ApiResponse send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            Map<String, Object> body = response.body().isEmpty()
+                ? Collections.emptyMap()
+                : JSON.toType(response.body(), Map.class);
+            return new ApiResponse(response.statusCode(), body);
+        } catch (IOException e) {
+            throw new IllegalStateException("API request failed: " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("API request interrupted: " + request.uri(), e);
+        }
+    }
+    
+    /**
+     * Response of an API call: HTTP status and parsed JSON body
+     */
+    public static final class ApiResponse {
+        
+        private final int status;
+        private final Map<String, Object> body;
+        
+        ApiResponse(int status, Map<String, Object> body) {
+            this.status = status;
+            this.body = Collections.unmodifiableMap(body);
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public Map<String, Object> getBody() {
+            return body;
+        }
+        
+        public boolean isSuccess() {
+            return Boolean.TRUE.equals(body.get("success"));
+        }
+        
+        public String getMessage() {
+            Object message = body.get("message");
+            return message == null ? "" : message.toString();
+        }
+        
+        /**
+         * Gets all validation error messages, or the single message if there is no list
+         * 
+         * @return Error messages
+         */
+        @SuppressWarnings("unchecked")
+        public List<String> getErrors() {
+            Object errors = body.get("errors");
+            if (errors instanceof List) {
+                return (List<String>) errors;
+            }
+            return isSuccess() ? Collections.emptyList() : Collections.singletonList(getMessage());
+        }
+        
+        /**
+         * Gets the username of the logged-in user from a successful response
+         * 
+         * @return Username, or null if absent
+         */
+        @SuppressWarnings("unchecked")
+        public String getUsername() {
+            Object user = body.get("user");
+            return user instanceof Map ? (String) ((Map<String, Object>) user).get("username") : null;
+        }
+        
+        @Override
+        public String toString() {
+            return status + " " + body;
+        }
+    }
+}
@@ -1,45 +1,75 @@
 package com.securelogin.utils;
 
-import java.io.FileInputStream;
+import com.securelogin.backend.EmbeddedLoginServer;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
 /**
  * Configuration Reader Utility
- * Reads configuration properties from config.properties file
+ * Loads config.properties once per run into an immutable snapshot.
+ * Every key can be overridden by a system property (-Dimplicit.wait=5)
+ * or an environment variable (IMPLICIT_WAIT=5), in that order
  * 
  * @author Secure Login Testing Team
  * @version 1.0
  */
-public class ConfigReader {
+public final class ConfigReader {
+    
+    private static final String CONFIG_FILE = "config.properties";
+    private static final String EMBEDDED_API = "embedded";
+    
+    private static final ConfigReader INSTANCE = new ConfigReader();
     
-    private Properties properties;
-    private static final String CONFIG_FILE = "src/test/resources/config.properties";
+    private final Map<String, String> properties;
     
     /**
-     * Constructor loads properties from config file
+     * Loads the config file and applies environment and system property overrides
      */
-    public ConfigReader() {
-        properties = new Properties();
-        try {
-            FileInputStream fis = new FileInputStream(CONFIG_FILE);
-            properties.load(fis);
-            fis.close();
+    private ConfigReader() {
+        Properties file = new Properties();
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (in == null) {
+                throw new IOException(CONFIG_FILE + " not found on the classpath");
+            }
+            file.load(in);
         } catch (IOException e) {
             System.err.println("Error loading config file: " + e.getMessage());
-            // Set default values if config file not found
-            setDefaultProperties();
         }
+        
+        Map<String, String> merged = new HashMap<>();
+        for (String key : file.stringPropertyNames()) {
+            merged.put(key, file.getProperty(key));
+        }
+        for (Map.Entry<String, String> env : System.getenv().entrySet()) {
+            String key = env.getKey().toLowerCase(Locale.ROOT).replace('_', '.');
+            if (merged.containsKey(key)) {
+                merged.put(key, env.getValue());
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            merged.put(key, System.getProperty(key));
+        }
+        this.properties = Collections.unmodifiableMap(merged);
     }
     
     /**
-     * Sets default property values
+     * Gets the configuration of this run
+     * 
+     * @return Shared configuration snapshot
      */
-    private void setDefaultProperties() {
-        properties.setProperty("base.url", "http://localhost:3000");
-        properties.setProperty("api.url", "http://localhost:5000");
-        properties.setProperty("valid.username", "admin");
-        properties.setProperty("valid.password", "admin123");
+    public static ConfigReader getInstance() {
+        return INSTANCE;
     }
     
     /**
@@ -48,16 +78,37 @@ public class ConfigReader {
      * @return Base URL
      */
     public String getBaseUrl() {
-        return properties.getProperty("base.url", "http://localhost:3000");
+        return getProperty("base.url", "http://localhost:3000");
     }
     
     /**
-     * Gets API URL
+     * Gets API URL as configured
+     * "embedded" and "embedded:<port>" select the in-JVM backend, which
+     * is started by EmbeddedLoginServer.startConfigured()
      * 
      * @return API URL
      */
     public String getApiUrl() {
-        return properties.getProperty("api.url", "http://localhost:5000");
+        return getProperty("api.url", "http://localhost:5000");
+    }
+    
+    /**
+     * Checks if api.url selects the in-JVM backend
+     * 
+     * @return true for "embedded" and "embedded:<port>"
+     */
+    public boolean isEmbeddedApi() {
+        return getApiUrl().startsWith(EMBEDDED_API);
+    }
+    
+    /**
+     * Gets the port of the in-JVM backend
+     * 
+     * @return Port from "embedded:<port>" (0 picks a free one), 5000 for "embedded"
+     */
+    public int getEmbeddedApiPort() {
+        String port = getApiUrl().substring(EMBEDDED_API.length());
+        return port.startsWith(":") ? Integer.parseInt(port.substring(1)) : EmbeddedLoginServer.DEFAULT_PORT;
     }
     
     /**
@@ -66,7 +117,7 @@ public class ConfigReader {
      * @return Valid username
      */
     public String getValidUsername() {
-        return properties.getProperty("valid.username", "admin");
+        return getProperty("valid.username", "admin");
     }
     
     /**
@@ -75,9 +126,123 @@ public class ConfigReader {
      * @return Valid password
      */
     public String getValidPassword() {
-        return properties.getProperty("valid.password", "admin123");
+        return getProperty("valid.password", "admin123");
+    }
+    
+    // ==================== BROWSER ====================
+    
+    /**
+     * Gets the browser to run (chrome, firefox or edge)
+     * 
+     * @return Browser name
+     */
+    public String getBrowser() {
+        return getProperty("browser", "chrome");
+    }
+    
+    /**
+     * Checks if browsers run headless
+     * 
+     * @return true if headless
+     */
+    public boolean isHeadless() {
+        return Boolean.parseBoolean(getProperty("headless", "false"));
+    }
+    
+    /**
+     * Gets the browser profile to launch with
+     * "auto" picks lean when the CI environment variable is set
+     * 
+     * @return browser.profile resolved to "standard" or "lean"
+     */
+    public String getBrowserProfile() {
+        String profile = getProperty("browser.profile", "auto").trim().toLowerCase(Locale.ROOT);
+        switch (profile) {
+            case "standard":
+            case "lean":
+                return profile;
+            case "auto":
+                String ci = System.getenv("CI");
+                return ci != null && !ci.isEmpty() && !"false".equalsIgnoreCase(ci) ? "lean" : "standard";
+            default:
+                throw new IllegalArgumentException("Invalid browser.profile=" + profile
+                    + ", expected standard, lean or auto");
+        }
+    }
+    
+    /**
+     * Gets the URL patterns the lean profile blocks through DevTools
+     * 
+     * @return browser.lean.blocked.urls split on commas
+     */
+    public List<String> getLeanBlockedUrls() {
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : getProperty("browser.lean.blocked.urls", "").split(",")) {
+            if (!pattern.trim().isEmpty()) {
+                patterns.add(pattern.trim());
+            }
+        }
+        return patterns;
+    }
+    
+    /**
+     * Gets the directory the lean profile creates browser user-data dirs in
+     * 
+     * @return browser.lean.user.data.base, default java.io.tmpdir
+     */
+    public Path getLeanUserDataBase() {
+        return Paths.get(getProperty("browser.lean.user.data.base", System.getProperty("java.io.tmpdir")));
+    }
+    
+    // ==================== TIMEOUTS ====================
+    
+    /**
+     * Gets the implicit wait set on every driver
+     * 
+     * @return implicit.wait (seconds, default 10)
+     */
+    public Duration getImplicitWait() {
+        return Duration.ofSeconds(getLong("implicit.wait", 10));
+    }
+    
+    /**
+     * Gets the timeout of explicit waits in page objects
+     * 
+     * @return explicit.wait (seconds, default 10)
+     */
+    public Duration getExplicitWait() {
+        return Duration.ofSeconds(getLong("explicit.wait", 10));
+    }
+    
+    /**
+     * Gets the page load timeout set on every driver
+     * 
+     * @return page.load.timeout (seconds, default 30)
+     */
+    public Duration getPageLoadTimeout() {
+        return Duration.ofSeconds(getLong("page.load.timeout", 30));
+    }
+    
+    /**
+     * Gets how long a login may stay in its loading state
+     * 
+     * @return loading.timeout (seconds, default 15)
+     */
+    public Duration getLoadingTimeout() {
+        return Duration.ofSeconds(getLong("loading.timeout", 15));
     }
     
+    /**
+     * Gets how long presence probes poll before answering "not there"
+     * 
+     * @return probe.timeout.ms (milliseconds, default 500)
+     */
+    public Duration getProbeTimeout() {
+        return Duration.ofMillis(getLong("probe.timeout.ms", 500));
+    }
+    
+    // ==================== RAW ACCESS ====================
+    
     /**
      * Gets property by key
      * 
@@ -85,7 +250,7 @@ public class ConfigReader {
      * @return Property value
      */
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return properties.get(key);
     }
     
     /**
@@ -96,6 +261,25 @@ public class ConfigReader {
      * @return Property value or default
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return properties.getOrDefault(key, defaultValue);
+    }
+    
+    /**
+     * Gets a whole-number property
+     * 
+     * @param key Property key
+     * @param defaultValue Default value if key not found
+     * @return Property value or default
+     */
+    public long getLong(String key, long defaultValue) {
+        String value = properties.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + key + "=" + value + ", expected a whole number");
+        }
     }
 }
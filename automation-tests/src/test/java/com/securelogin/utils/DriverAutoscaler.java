@@ -0,0 +1,281 @@
+package com.securelogin.utils;
+
+import com.sun.management.OperatingSystemMXBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Driver Autoscaler
+ * Resizes the browser pool while the suite runs so that only as many
+ * scenarios hold a browser as the host can afford. Every few seconds it
+ * reads the memory still available (MemAvailable, capped by the cgroup
+ * limit inside containers), the resident memory of the browser processes
+ * the JVM started, and the host's CPU usage since the previous sample:
+ * - shrinks at once when the free memory no longer covers another
+ *   browser plus a reserve, and by one worker per sample while the
+ *   CPUs are saturated
+ * - grows by one worker per sample while both have headroom
+ * Warm browsers already use their memory, so they count as running
+ * ones when the pool is sized against the free memory
+ * Shrinking takes permits away from the pool, so new checkouts wait
+ * until enough running scenarios have released their browser
+ * 
+ * Enable with -Ddriver.autoscale=true; -Ddriver.pool.size is the upper
+ * bound. Tuning: -Ddriver.autoscale.interval.ms (default 5000),
+ * -Ddriver.autoscale.reserve.mb (default 512) and
+ * -Ddriver.autoscale.browser.mb, the size assumed until a browser has
+ * been measured (default 300)
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.1
+ */
+public final class DriverAutoscaler {
+    
+    private static final long MB = 1024 * 1024;
+    private static final double MAX_CPU_LOAD = 0.9;
+    private static final double GROW_CPU_LOAD = 0.75;
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final Path CGROUP_V2 = Paths.get("/sys/fs/cgroup");
+    private static final Path CGROUP_V1 = Paths.get("/sys/fs/cgroup/memory");
+    
+    private final ResizableSemaphore pool;
+    private final int maxWorkers;
+    private final IntSupplier liveBrowsers;
+    private final IntSupplier warmBrowsers;
+    private final OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final long intervalMs = Long.getLong("driver.autoscale.interval.ms", 5000);
+    private final long reserveBytes = Long.getLong("driver.autoscale.reserve.mb", 512) * MB;
+    private final long assumedBrowserBytes = Long.getLong("driver.autoscale.browser.mb", 300) * MB;
+    private ScheduledExecutorService sampler;
+    
+    private int workers;
+    private int fewestWorkers;
+    private int mostWorkers;
+    private int resizes;
+    private long peakBrowserBytes;
+    
+    /**
+     * Fair semaphore whose number of permits can change after creation
+     */
+    static final class ResizableSemaphore extends Semaphore {
+        
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+        
+        void grow(int permits) {
+            release(permits);
+        }
+        
+        void shrink(int permits) {
+            reducePermits(permits);
+        }
+    }
+    
+    /**
+     * Creates an autoscaler for the given pool
+     * 
+     * @param pool Browser pool, created with maxWorkers permits
+     * @param maxWorkers Upper bound of concurrent browsers
+     * @param liveBrowsers Number of browsers currently running
+     * @param warmBrowsers Number of launched browsers waiting for a checkout
+     */
+    DriverAutoscaler(ResizableSemaphore pool, int maxWorkers, IntSupplier liveBrowsers, IntSupplier warmBrowsers) {
+        this.pool = pool;
+        this.maxWorkers = maxWorkers;
+        this.liveBrowsers = liveBrowsers;
+        this.warmBrowsers = warmBrowsers;
+        this.workers = maxWorkers;
+        this.fewestWorkers = maxWorkers;
+        this.mostWorkers = 0;
+    }
+    
+    /**
+     * Sizes the pool for the current host and starts sampling
+     */
+    synchronized void start() {
+        if (sampler != null) {
+            return;
+        }
+        adjust();
+        sampler = Executors.newSingleThreadScheduledExecutor(ThreadSupport.daemonThreadFactory("driver-autoscaler"));
+        sampler.scheduleWithFixedDelay(this::adjust, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Stops sampling and prints the range the pool moved in
+     */
+    synchronized void stop() {
+        if (sampler == null) {
+            return;
+        }
+        sampler.shutdownNow();
+        System.out.println("Autoscaler: " + fewestWorkers + "-" + mostWorkers + " browser workers (limit "
+            + maxWorkers + "), " + resizes + " resizes"
+            + (peakBrowserBytes > 0 ? ", ~" + peakBrowserBytes / MB + " MB per browser at peak" : ""));
+    }
+    
+    /**
+     * Takes one sample and resizes the pool towards its target
+     */
+    private synchronized void adjust() {
+        try {
+            // Warm browsers hold no permit but their memory is already in use
+            int running = workers - pool.availablePermits() + warmBrowsers.getAsInt();
+            long available = availableMemory();
+            long perBrowser = browserMemory();
+            // Busy share of all CPUs since the previous call, not a trailing average
+            double load = os.getCpuLoad();
+            
+            int target = maxWorkers;
+            if (available >= 0) {
+                target = Math.min(target, running + (int) ((available - reserveBytes) / perBrowser));
+            }
+            if (load >= MAX_CPU_LOAD) {
+                target = Math.min(target, workers - 1);
+            } else if (load >= GROW_CPU_LOAD) {
+                target = Math.min(target, workers);
+            }
+            // Shrink at once, grow one worker per sample
+            target = Math.max(1, Math.min(target, workers + 1));
+            
+            if (target != workers) {
+                System.out.println("→ Browser workers " + workers + " → " + target + " ("
+                    + (available >= 0 ? available / MB + " MB free, " : "")
+                    + "~" + perBrowser / MB + " MB per browser"
+                    + (load >= 0 ? String.format(", CPU %.0f%%", load * 100) : "") + ")");
+                if (target > workers) {
+                    pool.grow(target - workers);
+                } else {
+                    pool.shrink(workers - target);
+                }
+                workers = target;
+                resizes++;
+            }
+            fewestWorkers = Math.min(fewestWorkers, workers);
+            mostWorkers = Math.max(mostWorkers, workers);
+        } catch (RuntimeException e) {
+            System.err.println("Autoscaler sample failed: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets the memory new browsers can still use
+     * 
+     * @return Bytes available to this container, -1 if unknown
+     */
+    private static long availableMemory() {
+        long available = readMeminfo("MemAvailable");
+        long limit = readLong(CGROUP_V2.resolve("memory.max"));
+        long usage = readLong(CGROUP_V2.resolve("memory.current"));
+        long reclaimable = readStat(CGROUP_V2.resolve("memory.stat"), "inactive_file");
+        if (limit < 0) {
+            limit = readLong(CGROUP_V1.resolve("memory.limit_in_bytes"));
+            usage = readLong(CGROUP_V1.resolve("memory.usage_in_bytes"));
+            reclaimable = readStat(CGROUP_V1.resolve("memory.stat"), "total_inactive_file");
+        }
+        // Page cache the kernel can drop does not count, like the kubelet's working set
+        usage -= Math.max(0, reclaimable);
+        // cgroup v1 reports "no limit" as a huge number
+        if (limit > 0 && usage >= 0 && limit < Long.MAX_VALUE / 2) {
+            long headroom = limit - usage;
+            return available < 0 ? headroom : Math.min(available, headroom);
+        }
+        return available;
+    }
+    
+    /**
+     * Gets the resident memory of one browser, averaged over the browser
+     * and driver processes this JVM started
+     * 
+     * @return Bytes per browser, the assumed size until one is measured
+     */
+    private long browserMemory() {
+        int live = liveBrowsers.getAsInt();
+        if (live == 0) {
+            return Math.max(assumedBrowserBytes, peakBrowserBytes);
+        }
+        long rss = ProcessHandle.current().descendants()
+            .mapToLong(process -> readStatus(process.pid(), "VmRSS"))
+            .filter(bytes -> bytes > 0)
+            .sum();
+        if (rss == 0) {
+            return assumedBrowserBytes;
+        }
+        long perBrowser = rss / live;
+        peakBrowserBytes = Math.max(peakBrowserBytes, perBrowser);
+        return perBrowser;
+    }
+    
+    private static long readMeminfo(String field) {
+        return readField(MEMINFO, field);
+    }
+    
+    private static long readStatus(long pid, String field) {
+        return readField(Paths.get("/proc", Long.toString(pid), "status"), field);
+    }
+    
+    /**
+     * Reads a "Field:   1234 kB" line of a /proc file
+     * 
+     * @param file File to read
+     * @param field Field name
+     * @return Value in bytes, -1 if missing
+     */
+    private static long readField(Path file, String field) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                if (line.startsWith(field + ":")) {
+                    String[] parts = line.substring(field.length() + 1).trim().split("\\s+");
+                    return Long.parseLong(parts[0]) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process has exited
+        }
+        return -1;
+    }
+    
+    /**
+     * Reads a "key 1234" line of a cgroup memory.stat file
+     * 
+     * @param file File to read
+     * @param key Statistic name
+     * @return Value in bytes, -1 if missing
+     */
+    private static long readStat(Path file, String key) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                if (line.startsWith(key + " ")) {
+                    return Long.parseLong(line.substring(key.length() + 1).trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // No cgroup memory controller
+        }
+        return -1;
+    }
+    
+    /**
+     * Reads a file holding a single number, e.g. a cgroup limit
+     * 
+     * @param file File to read
+     * @return The number, -1 if missing or "max"
+     */
+    private static long readLong(Path file) {
+        try {
+            return Long.parseLong(new String(Files.readAllBytes(file)).trim());
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+    }
+}
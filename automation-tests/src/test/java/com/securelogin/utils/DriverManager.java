@@ -1,42 +1,416 @@
 package com.securelogin.utils;
 
+import com.securelogin.backend.LoginApiStub;
+import com.securelogin.reporting.CommandTimingListener;
+import com.securelogin.reporting.CommandTracer;
+import com.securelogin.scheduling.ImpactRecorder;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.HasDevTools;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 
 /**
  * WebDriver Manager Utility
  * Manages WebDriver instance creation and configuration
- * Implements Singleton pattern to ensure single driver instance
+ * Keeps a bounded pool of thread-confined drivers so that each
+ * worker thread checks out its own browser for parallel scenarios
+ * 
+ * Pool size is set with -Ddriver.pool.size (defaults to CPU count)
+ * 
+ * With -Dsession.reuse=true a browser is kept alive across scenarios
+ * and only reset between them; it is recycled after
+ * -Dsession.max.scenarios scenarios or after a failed scenario
+ * 
+ * On Chrome and Edge the login API can be stubbed per scenario through
+ * DevTools interception (-Dapi.stub=true, -Dapi.stub.latency.ms)
+ * 
+ * With -Ddriver.warm.size=N, N browsers are launched in parallel when
+ * the suite starts and each one checked out is replaced in the
+ * background, so scenarios take a running browser instead of waiting
+ * for a cold launch; retired browsers are quit in the background too
+ * 
+ * browser.profile=lean (the default when the CI variable is set)
+ * launches headless browsers without images or web fonts, see
+ * LeanBrowserProfile
+ * 
+ * With -Ddriver.autoscale=true the pool is resized while the suite runs
+ * to what host memory and CPU allow, see DriverAutoscaler
  * 
  * @author Secure Login Testing Team
- * @version 1.0
+ * @version 1.5
  */
 public class DriverManager {
     
-    private static WebDriver driver;
-    private static final String BROWSER = System.getProperty("browser", "chrome");
-    private static final boolean HEADLESS = Boolean.parseBoolean(System.getProperty("headless", "false"));
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ConfigReader CONFIG = ConfigReader.getInstance();
+    private static final String BROWSER = CONFIG.getBrowser();
+    private static final String BROWSER_PROFILE = CONFIG.getBrowserProfile();
+    private static final boolean LEAN = "lean".equals(BROWSER_PROFILE);
+    private static final boolean HEADLESS = LEAN || CONFIG.isHeadless();
+    private static final int POOL_SIZE = Integer.getInteger("driver.pool.size",
+            Runtime.getRuntime().availableProcessors());
+    private static final DriverAutoscaler.ResizableSemaphore POOL = new DriverAutoscaler.ResizableSemaphore(POOL_SIZE);
+    private static final Duration IMPLICIT_WAIT = CONFIG.getImplicitWait();
+    private static final Duration PAGE_LOAD_TIMEOUT = CONFIG.getPageLoadTimeout();
+    // Async UI-state waits run in the browser for up to loading.timeout
+    private static final Duration SCRIPT_TIMEOUT = CONFIG.getLoadingTimeout().plusSeconds(5);
+    private static final boolean SESSION_REUSE = Boolean.parseBoolean(System.getProperty("session.reuse", "false"));
+    private static final int MAX_SCENARIOS_PER_SESSION = Integer.getInteger("session.max.scenarios", 25);
+    private static final boolean API_STUB = Boolean.parseBoolean(System.getProperty("api.stub", "false"));
+    private static final Duration API_STUB_LATENCY = Duration.ofMillis(Long.getLong("api.stub.latency.ms", 0));
+    private static final Duration SLOW_NETWORK_LATENCY = Duration.ofMillis(Long.getLong("api.stub.slow.latency.ms", 1500));
+    private static final ThreadLocal<LoginApiStub> API_STUBS = new ThreadLocal<>();
+    private static final CommandTimingListener COMMAND_TIMER = new CommandTimingListener();
+    private static final CommandTracer COMMAND_TRACER = new CommandTracer();
+    private static final ImpactRecorder IMPACT_RECORDER = new ImpactRecorder();
+    
+    // Session reuse bookkeeping
+    private static final ThreadLocal<Integer> SCENARIO_COUNT = ThreadLocal.withInitial(() -> 0);
+    private static final Set<WebDriver> LIVE_DRIVERS = ConcurrentHashMap.newKeySet();
+    private static final Map<WebDriver, Path> USER_DATA_DIRS = new ConcurrentHashMap<>();
+    private static final AtomicLong LAUNCHES = new AtomicLong();
+    private static final AtomicLong LAUNCH_NANOS = new AtomicLong();
+    private static final AtomicLong REUSED_SESSIONS = new AtomicLong();
+
+    // Warm pool of pre-launched browsers
+    private static final int WARM_SIZE = Integer.getInteger("driver.warm.size", 0);
+    private static final BlockingQueue<WebDriver> WARM_DRIVERS = new LinkedBlockingQueue<>();
+    private static final ExecutorService LAUNCHER = WARM_SIZE > 0
+        ? Executors.newFixedThreadPool(WARM_SIZE, ThreadSupport.daemonThreadFactory("driver-launcher"))
+        : null;
+    private static final AtomicInteger PENDING_LAUNCHES = new AtomicInteger();
+    private static final DriverAutoscaler AUTOSCALER = Boolean.getBoolean("driver.autoscale")
+        ? new DriverAutoscaler(POOL, POOL_SIZE, () -> LIVE_DRIVERS.size(), () -> WARM_DRIVERS.size())
+        : null;
+    private static final AtomicLong WARM_CHECKOUTS = new AtomicLong();
+    private static final AtomicLong CHECKOUTS = new AtomicLong();
+    private static boolean warmedUp;
+    private static boolean driverBinaryResolved;
+    private static volatile boolean shuttingDown;
+    
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdown, "driver-manager-shutdown"));
+        if (AUTOSCALER != null) {
+            AUTOSCALER.start();
+        }
+    }
     
     /**
-     * Gets the WebDriver instance (creates if not exists)
+     * Gets the WebDriver instance of the current thread
+     * Checks out a new driver from the pool if the thread has none,
+     * blocking while every pool slot is in use
      * 
      * @return WebDriver instance
      */
     public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
         if (driver == null) {
-            driver = createDriver();
+            POOL.acquireUninterruptibly();
+            try {
+                driver = takeWarmDriver();
+                if (driver == null) {
+                    driver = launchDriver();
+                }
+            } catch (RuntimeException e) {
+                POOL.release();
+                throw e;
+            }
+            CHECKOUTS.incrementAndGet();
+            DRIVER.set(driver);
+        }
+        return driver;
+    }
+    
+    /**
+     * Launches the warm pool in the background
+     * Returns immediately; scenarios that start before a browser is ready
+     * wait for the next one to finish launching
+     */
+    public static synchronized void warmUp() {
+        if (LAUNCHER == null || warmedUp) {
+            return;
+        }
+        warmedUp = true;
+        System.out.println("→ Pre-launching " + WARM_SIZE + " " + BROWSER + " browsers");
+        for (int i = 0; i < WARM_SIZE; i++) {
+            replenish();
+        }
+    }
+    
+    /**
+     * Takes a running browser from the warm pool and schedules its replacement
+     * Waits while launches are in flight rather than starting a cold one
+     * 
+     * @return Warm browser, or null if the pool is empty and nothing is launching
+     */
+    private static WebDriver takeWarmDriver() {
+        if (LAUNCHER == null) {
+            return null;
+        }
+        try {
+            while (true) {
+                WebDriver driver = WARM_DRIVERS.poll();
+                while (driver == null && PENDING_LAUNCHES.get() > 0) {
+                    driver = WARM_DRIVERS.poll(100, TimeUnit.MILLISECONDS);
+                }
+                if (driver == null) {
+                    return null;
+                }
+                replenish();
+                if (isAlive(driver)) {
+                    WARM_CHECKOUTS.incrementAndGet();
+                    return driver;
+                }
+                // Crashed while idle, its replacement is already on the way
+                discard(driver);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         }
+    }
+    
+    /**
+     * Launches one browser into the warm pool in the background
+     */
+    private static void replenish() {
+        if (shuttingDown) {
+            return;
+        }
+        PENDING_LAUNCHES.incrementAndGet();
+        try {
+            LAUNCHER.execute(() -> {
+                try {
+                    WebDriver driver = launchDriver();
+                    if (shuttingDown) {
+                        discard(driver);
+                    } else {
+                        WARM_DRIVERS.offer(driver);
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("Warm browser launch failed: " + e.getMessage());
+                } finally {
+                    PENDING_LAUNCHES.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            PENDING_LAUNCHES.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Creates a browser and records its launch time
+     * 
+     * @return New WebDriver instance
+     */
+    private static WebDriver launchDriver() {
+        long start = System.nanoTime();
+        WebDriver driver = createDriver();
+        LAUNCHES.incrementAndGet();
+        LAUNCH_NANOS.addAndGet(System.nanoTime() - start);
+        LIVE_DRIVERS.add(driver);
         return driver;
     }
     
+    /**
+     * Checks that an idle browser still responds
+     * 
+     * @param driver WebDriver to check
+     * @return true if the browser is usable
+     */
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Quits a browser that is not checked out, ignoring errors
+     * 
+     * @param driver WebDriver to quit
+     */
+    private static void discard(WebDriver driver) {
+        LIVE_DRIVERS.remove(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Browser already gone
+        } finally {
+            deleteUserDataDir(driver);
+        }
+    }
+    
+    /**
+     * Removes the lean profile dir of a browser that has quit
+     * 
+     * @param driver WebDriver that was quit
+     */
+    private static void deleteUserDataDir(WebDriver driver) {
+        Path userDataDir = USER_DATA_DIRS.remove(driver);
+        if (userDataDir != null) {
+            LeanBrowserProfile.deleteUserDataDir(userDataDir);
+        }
+    }
+    
+    /**
+     * Downloads or locates the driver binary once per run
+     */
+    private static synchronized void resolveDriverBinary() {
+        if (driverBinaryResolved) {
+            return;
+        }
+        switch (BROWSER.toLowerCase()) {
+            case "chrome":
+                WebDriverManager.chromedriver().setup();
+                break;
+            case "firefox":
+                WebDriverManager.firefoxdriver().setup();
+                break;
+            case "edge":
+                WebDriverManager.edgedriver().setup();
+                break;
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + BROWSER);
+        }
+        driverBinaryResolved = true;
+    }
+    
+    /**
+     * Gets the driver for a new scenario on the current thread
+     * Reuses the thread's recycled browser when one is available
+     * 
+     * @return WebDriver instance
+     */
+    public static WebDriver acquireDriver() {
+        if (hasDriver()) {
+            REUSED_SESSIONS.incrementAndGet();
+        }
+        return getDriver();
+    }
+    
+    /**
+     * Releases the current thread's driver at the end of a scenario
+     * Without session reuse the browser is always quit; with it the
+     * browser is reset and kept unless it failed or reached its limit
+     * 
+     * @param failed true if the scenario failed
+     * @return true if the browser was kept for the next scenario
+     */
+    public static boolean releaseDriver(boolean failed) {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            return false;
+        }
+        removeLoginApiStub();
+        int scenarios = SCENARIO_COUNT.get() + 1;
+        if (!SESSION_REUSE || failed || scenarios >= MAX_SCENARIOS_PER_SESSION) {
+            quitDriver();
+            return false;
+        }
+        try {
+            resetSession(driver);
+        } catch (WebDriverException e) {
+            System.err.println("Session reset failed, recycling browser: " + e.getMessage());
+            quitDriver();
+            return false;
+        }
+        SCENARIO_COUNT.set(scenarios);
+        return true;
+    }
+    
+    /**
+     * Clears cookies and web storage and leaves the browser on a blank page
+     * 
+     * @param driver WebDriver to reset
+     */
+    private static void resetSession(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                "window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException e) {
+            // Storage is not accessible on pages without an origin (e.g. about:blank)
+        }
+        driver.get("about:blank");
+    }
+    
+    /**
+     * Answers the browser's login API calls from in-memory fixtures
+     * until the end of the scenario, after the given delay
+     * Calling it again only changes the latency
+     * 
+     * @param latency Delay before each stubbed response
+     */
+    public static void stubLoginApi(Duration latency) {
+        LoginApiStub stub = API_STUBS.get();
+        if (stub != null) {
+            stub.setLatency(latency);
+            return;
+        }
+        API_STUBS.set(new LoginApiStub(getDriver(), latency));
+    }
+    
+    /**
+     * Checks if the current thread's browser supports login API stubbing
+     * 
+     * @return true for Chromium-based browsers
+     */
+    public static boolean supportsApiStub() {
+        return getDriver() instanceof HasDevTools;
+    }
+    
+    /**
+     * Stops stubbing the login API on the current thread's browser
+     */
+    public static void removeLoginApiStub() {
+        LoginApiStub stub = API_STUBS.get();
+        if (stub != null) {
+            API_STUBS.remove();
+            try {
+                stub.close();
+            } catch (WebDriverException e) {
+                // Browser already gone
+            }
+        }
+    }
+    
+    /**
+     * Checks if the current thread has a driver checked out
+     * 
+     * @return true if a driver is bound to this thread, false otherwise
+     */
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+    
     /**
      * Creates and configures WebDriver based on browser type
      * 
@@ -44,75 +418,162 @@ public class DriverManager {
      */
     private static WebDriver createDriver() {
         WebDriver newDriver;
+        resolveDriverBinary();
+        Path userDataDir = LEAN && !"firefox".equalsIgnoreCase(BROWSER)
+            ? LeanBrowserProfile.createUserDataDir(CONFIG.getLeanUserDataBase())
+            : null;
+            
+        try {
+            newDriver = launchBrowser(userDataDir);
+        } catch (RuntimeException e) {
+            if (userDataDir != null) {
+                LeanBrowserProfile.deleteUserDataDir(userDataDir);
+            }
+            throw e;
+        }
+        
+        WebDriver decorated = decorate(newDriver);
+        if (userDataDir != null) {
+            USER_DATA_DIRS.put(decorated, userDataDir);
+        }
+        return decorated;
+    }
+    
+    /**
+     * Sets the configured timeouts and attaches the command listeners
+     * 
+     * @param newDriver Undecorated WebDriver instance
+     * @return Decorated WebDriver instance
+     */
+    private static WebDriver decorate(WebDriver newDriver) {
+        // Set implicit wait
+        newDriver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
+        
+        // Set page load timeout
+        newDriver.manage().timeouts().pageLoadTimeout(PAGE_LOAD_TIMEOUT);
+        
+        // Let async wait scripts time out on their own first
+        newDriver.manage().timeouts().scriptTimeout(SCRIPT_TIMEOUT);
+        
+        // Time and trace every WebDriver command for the step timing and command trace reports
+        return new EventFiringDecorator<WebDriver>(COMMAND_TIMER, COMMAND_TRACER, IMPACT_RECORDER).decorate(newDriver);
+    }
+    
+    /**
+     * Launches the configured browser with the standard or lean options
+     * 
+     * @param userDataDir Lean profile dir for Chromium browsers, null otherwise
+     * @return Undecorated WebDriver instance
+     */
+    private static WebDriver launchBrowser(Path userDataDir) {
+        WebDriver newDriver;
         
         switch (BROWSER.toLowerCase()) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
                 ChromeOptions chromeOptions = new ChromeOptions();
                 
-                if (HEADLESS) {
-                    chromeOptions.addArguments("--headless");
+                if (LEAN) {
+                    LeanBrowserProfile.configure(chromeOptions, userDataDir);
+                } else {
+                    if (HEADLESS) {
+                        chromeOptions.addArguments("--headless");
+                    }
+                    chromeOptions.addArguments("--start-maximized");
                 }
                 
                 // Chrome performance and stability options
-                chromeOptions.addArguments("--start-maximized");
                 chromeOptions.addArguments("--disable-gpu");
                 chromeOptions.addArguments("--no-sandbox");
                 chromeOptions.addArguments("--disable-dev-shm-usage");
                 chromeOptions.addArguments("--disable-extensions");
                 chromeOptions.addArguments("--disable-popup-blocking");
                 chromeOptions.addArguments("--ignore-certificate-errors");
+                chromeOptions.setCapability(ChromeOptions.LOGGING_PREFS, browserLogging());
                 
                 newDriver = new ChromeDriver(chromeOptions);
-                System.out.println("✓ Chrome browser initialized");
+                System.out.println("✓ Chrome browser initialized" + (LEAN ? " (lean profile)" : ""));
                 break;
                 
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
                 
-                if (HEADLESS) {
+                if (LEAN) {
+                    LeanBrowserProfile.configure(firefoxOptions);
+                } else if (HEADLESS) {
                     firefoxOptions.addArguments("--headless");
                 }
                 
                 newDriver = new FirefoxDriver(firefoxOptions);
-                newDriver.manage().window().maximize();
-                System.out.println("✓ Firefox browser initialized");
+                if (!LEAN) {
+                    newDriver.manage().window().maximize();
+                }
+                System.out.println("✓ Firefox browser initialized" + (LEAN ? " (lean profile)" : ""));
                 break;
                 
             case "edge":
-                WebDriverManager.edgedriver().setup();
                 EdgeOptions edgeOptions = new EdgeOptions();
                 
-                if (HEADLESS) {
+                if (LEAN) {
+                    LeanBrowserProfile.configure(edgeOptions, userDataDir);
+                } else if (HEADLESS) {
                     edgeOptions.addArguments("--headless");
                 }
+                edgeOptions.setCapability(EdgeOptions.LOGGING_PREFS, browserLogging());
                 
                 newDriver = new EdgeDriver(edgeOptions);
-                newDriver.manage().window().maximize();
-                System.out.println("✓ Edge browser initialized");
+                if (!LEAN) {
+                    newDriver.manage().window().maximize();
+                }
+                System.out.println("✓ Edge browser initialized" + (LEAN ? " (lean profile)" : ""));
                 break;
                 
             default:
                 throw new IllegalArgumentException("Browser not supported: " + BROWSER);
         }
         
-        // Set implicit wait
-        newDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        
-        // Set page load timeout
-        newDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
-        
+        if (LEAN) {
+            LeanBrowserProfile.blockUrls(newDriver, CONFIG.getLeanBlockedUrls());
+        }
         return newDriver;
     }
     
     /**
-     * Quits the WebDriver and sets instance to null
+     * Keeps the browser console so failure artifacts can include it
+     * 
+     * @return Logging preferences for Chromium browsers
+     */
+    private static LoggingPreferences browserLogging() {
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.INFO);
+        return logging;
+    }
+    
+    /**
+     * Quits the current thread's WebDriver and returns its slot to the pool
+     * With a warm pool the browser is quit in the background
      */
     public static void quitDriver() {
+        WebDriver driver = DRIVER.get();
         if (driver != null) {
-            driver.quit();
-            driver = null;
+            removeLoginApiStub();
+            DRIVER.remove();
+            SCENARIO_COUNT.remove();
+            if (LAUNCHER != null && !shuttingDown) {
+                POOL.release();
+                try {
+                    LAUNCHER.execute(() -> discard(driver));
+                } catch (RejectedExecutionException e) {
+                    discard(driver);
+                }
+                return;
+            }
+            LIVE_DRIVERS.remove(driver);
+            try {
+                driver.quit();
+            } finally {
+                deleteUserDataDir(driver);
+                POOL.release();
+            }
         }
     }
     
@@ -133,4 +594,107 @@ public class DriverManager {
     public static boolean isHeadless() {
         return HEADLESS;
     }
+    
+    /**
+     * Gets the browser profile of this run
+     * 
+     * @return "standard" or "lean"
+     */
+    public static String getBrowserProfile() {
+        return BROWSER_PROFILE;
+    }
+    
+    /**
+     * Gets the implicit wait configured on every driver
+     * 
+     * @return Implicit wait duration
+     */
+    public static Duration getImplicitWait() {
+        return IMPLICIT_WAIT;
+    }
+    
+    /**
+     * Gets the maximum number of drivers that can be checked out at once
+     * 
+     * @return Pool size
+     */
+    public static int getPoolSize() {
+        return POOL_SIZE;
+    }
+    
+    /**
+     * Gets the number of browsers kept pre-launched
+     * 
+     * @return Warm pool size, 0 if disabled
+     */
+    public static int getWarmPoolSize() {
+        return WARM_SIZE;
+    }
+    
+    /**
+     * Checks if browsers are kept alive across scenarios
+     * 
+     * @return true if session reuse is enabled, false otherwise
+     */
+    public static boolean isSessionReuseEnabled() {
+        return SESSION_REUSE;
+    }
+    
+    /**
+     * Checks if every UI scenario stubs the login API
+     * 
+     * @return true if -Dapi.stub=true
+     */
+    public static boolean isApiStubEnabled() {
+        return API_STUB;
+    }
+    
+    /**
+     * Gets the stub latency for ordinary scenarios
+     * 
+     * @return Latency from -Dapi.stub.latency.ms (default 0)
+     */
+    public static Duration getApiStubLatency() {
+        return API_STUB_LATENCY;
+    }
+    
+    /**
+     * Gets the stub latency for scenarios that simulate a slow network
+     * 
+     * @return Latency from -Dapi.stub.slow.latency.ms (default 1500)
+     */
+    public static Duration getSlowNetworkLatency() {
+        return SLOW_NETWORK_LATENCY;
+    }
+    
+    /**
+     * Quits browsers still held by worker threads and prints
+     * how much launch time session reuse and the warm pool saved
+     */
+    private static void shutdown() {
+        shuttingDown = true;
+        if (AUTOSCALER != null) {
+            AUTOSCALER.stop();
+        }
+        if (LAUNCHER != null) {
+            LAUNCHER.shutdownNow();
+        }
+        for (WebDriver driver : LIVE_DRIVERS) {
+            discard(driver);
+        }
+        LIVE_DRIVERS.clear();
+        
+        long launches = LAUNCHES.get();
+        if (SESSION_REUSE && launches > 0) {
+            long avgLaunchMs = TimeUnit.NANOSECONDS.toMillis(LAUNCH_NANOS.get() / launches);
+            long reused = REUSED_SESSIONS.get();
+            System.out.println("Session reuse: " + launches + " browser launches, " + reused
+                + " scenarios reused a browser, ~" + (reused * avgLaunchMs) + " ms launch time saved"
+                + " (avg launch " + avgLaunchMs + " ms)");
+        }
+        if (LAUNCHER != null) {
+            System.out.println("Warm pool: " + WARM_CHECKOUTS.get() + " of " + CHECKOUTS.get()
+                + " browser checkouts took a pre-launched browser");
+        }
+    }
 }
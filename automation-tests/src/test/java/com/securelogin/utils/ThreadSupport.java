@@ -0,0 +1,80 @@
+package com.securelogin.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread Utility
+ * Creates executors that run each task on a virtual thread when the
+ * running JVM supports them (Java 21+), falling back to daemon platform
+ * threads on older runtimes
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public final class ThreadSupport {
+    
+    private static final Method NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+    
+    private ThreadSupport() {
+    }
+    
+    /**
+     * Checks if virtual threads are available on this JVM
+     * 
+     * @return true if tasks will run on virtual threads
+     */
+    public static boolean virtualThreadsAvailable() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+    
+    /**
+     * Creates an executor that starts a new thread per task
+     * Virtual threads when available, otherwise daemon platform threads
+     * 
+     * @param name Thread name prefix used for platform threads
+     * @return Executor service
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        if (NEW_VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Fall through to platform threads
+            }
+        }
+        return Executors.newCachedThreadPool(daemonThreadFactory(name));
+    }
+    
+    /**
+     * Creates a factory for named daemon platform threads
+     * 
+     * @param name Thread name prefix
+     * @return Thread factory
+     */
+    public static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    /**
+     * Looks up Executors.newVirtualThreadPerTaskExecutor() reflectively
+     * so the module still compiles for older Java targets
+     * 
+     * @return Factory method, or null if not available
+     */
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
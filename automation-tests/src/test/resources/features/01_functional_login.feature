@@ -6,7 +6,7 @@ Feature: Login Functionality Testing
   Background:
     Given the user is on the login page
 
-  @functional @positive
+  @functional @positive @api
   Scenario: Successful login with valid credentials
     When the user enters username "admin"
     And the user enters password "admin123"
@@ -14,7 +14,7 @@ Feature: Login Functionality Testing
     Then the user should be redirected to the dashboard
     And the welcome message should display "Welcome back, admin!"
 
-  @functional @negative
+  @functional @negative @api
   Scenario: Login with invalid username
     When the user enters username "invaliduser"
     And the user enters password "admin123"
@@ -23,7 +23,7 @@ Feature: Login Functionality Testing
     And the error message should contain "Invalid username or password"
     And the user should remain on the login page
 
-  @functional @negative
+  @functional @negative @api
   Scenario: Login with invalid password
     When the user enters username "admin"
     And the user enters password "wrongpassword"
@@ -31,7 +31,7 @@ Feature: Login Functionality Testing
     Then an error message should be displayed
     And the error message should contain "Invalid username or password"
 
-  @functional @negative
+  @functional @negative @api
   Scenario: Login with non-existing user
     When the user enters username "nonexistentuser123"
     And the user enters password "password123"
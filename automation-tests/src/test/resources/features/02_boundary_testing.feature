@@ -51,7 +51,7 @@ Feature: Boundary Value Analysis Testing
     Then a validation error should be displayed for username field
     And the error message should contain "must not exceed 255 characters"
 
-  @boundary @positive
+  @boundary @positive @api
   Scenario: Login with username at maximum length (255 characters)
     When the user enters a username with 255 characters
     And the user enters password "admin123"
@@ -78,14 +78,14 @@ Feature: Boundary Value Analysis Testing
     And the user enters password "admin123"
     Then a validation error should be displayed for username field
 
-  @boundary @special
+  @boundary @special @api
   Scenario: Login with special characters in username
     When the user enters username "admin@test.com"
     And the user enters password "admin123"
     And the user clicks the login button
     Then an error message should be displayed
 
-  @boundary @special
+  @boundary @special @api
   Scenario: Login with spaces in username
     When the user enters username "admin user"
     And the user enters password "admin123"
@@ -6,7 +6,7 @@ Feature: Security Testing
   Background:
     Given the user is on the login page
 
-  @security @sql-injection
+  @security @sql-injection @api
   Scenario: Attempt SQL injection in username field - OR statement
     When the user enters username "' OR '1'='1"
     And the user enters password "anything"
@@ -15,7 +15,7 @@ Feature: Security Testing
     And the error message should contain "Invalid"
     And the user should remain on the login page
 
-  @security @sql-injection
+  @security @sql-injection @api
   Scenario: Attempt SQL injection in password field
     When the user enters username "admin"
     And the user enters password "' OR '1'='1"
@@ -23,14 +23,14 @@ Feature: Security Testing
     Then an error message should be displayed
     And the user should remain on the login page
 
-  @security @sql-injection
+  @security @sql-injection @api
   Scenario: Attempt SQL injection with comment characters
     When the user enters username "admin'--"
     And the user enters password "anything"
     And the user clicks the login button
     Then an error message should be displayed
 
-  @security @sql-injection
+  @security @sql-injection @api
   Scenario: Attempt SQL injection with UNION statement
     When the user enters username "admin' UNION SELECT * FROM users--"
     And the user enters password "password"
@@ -44,32 +44,32 @@ Feature: Security Testing
     Then a validation error should be displayed for username field
     And the error message should contain "Invalid characters"
 
-  @security @xss
+  @security @xss @api
   Scenario: Attempt XSS attack in password field
     When the user enters username "admin"
     And the user enters password "<script>alert('XSS')</script>"
     Then a validation error should be displayed for password field
     And the error message should contain "Invalid characters"
 
-  @security @xss
+  @security @xss @api
   Scenario: Attempt XSS with image tag
     When the user enters username "<img src=x onerror=alert('XSS')>"
     And the user enters password "admin123"
     Then a validation error should be displayed for username field
 
-  @security @xss
+  @security @xss @api
   Scenario: Attempt XSS with javascript protocol
     When the user enters username "javascript:alert('XSS')"
     And the user enters password "admin123"
     Then a validation error should be displayed for username field
 
-  @security @special-chars
+  @security @special-chars @api
   Scenario: Test HTML special characters handling
     When the user enters username "<test>"
     And the user enters password "admin123"
     Then a validation error should be displayed for username field
 
-  @security @rate-limiting
+  @security @rate-limiting @api
   Scenario: Multiple failed login attempts
     When the user enters username "admin"
     And the user enters password "wrongpassword1"
@@ -14,7 +14,7 @@ Feature: UI Validation Testing
     Then an error message should be displayed
     And the error message should be visible
 
-  @ui @loading-state
+  @ui @loading-state @slow-network
   Scenario: Verify loading state during login
     When the user enters username "admin"
     And the user enters password "admin123"
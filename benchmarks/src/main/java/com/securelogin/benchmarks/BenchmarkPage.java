@@ -0,0 +1,40 @@
+package com.securelogin.benchmarks;
+
+import com.securelogin.pages.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Benchmark Page
+ * Exposes the protected BasePage primitives so each can be measured alone
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class BenchmarkPage extends BasePage {
+    
+    public BenchmarkPage(WebDriver driver) {
+        super(driver);
+    }
+    
+    public WebElement visible(By by) {
+        return waitForElementVisible(by);
+    }
+    
+    public void type(By by, String text) {
+        clearAndType(by, text);
+    }
+    
+    public boolean displayed(By by) {
+        return isElementDisplayed(by);
+    }
+    
+    public void pageLoad() {
+        waitForPageLoad();
+    }
+    
+    public void resetCache() {
+        clearElementCache();
+    }
+}
@@ -0,0 +1,56 @@
+package com.securelogin.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Benchmark Runner
+ * Runs the page-object benchmarks with the GC profiler, so every primitive
+ * reports ops/sec and allocation rate (gc.alloc.rate.norm is bytes per call),
+ * and writes the results to target/jmh-result.json
+ * 
+ * Accepts the usual JMH command-line options, e.g. a benchmark regex
+ * or -f/-wi/-i overrides
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+    
+    private static final String RESULT_FILE = "target/jmh-result.json";
+    
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            // Informational options are handled by the stock JMH launcher
+            Main.main(args);
+            return;
+        }
+        new File(RESULT_FILE).getParentFile().mkdirs();
+        
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(PageObjectBenchmark.class.getSimpleName());
+        }
+        Options options = builder
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(RESULT_FILE)
+            .build();
+            
+        new Runner(options).run();
+        System.out.println("✓ Benchmark results written to " + RESULT_FILE);
+    }
+}
@@ -0,0 +1,118 @@
+package com.securelogin.benchmarks;
+
+import com.securelogin.utils.DriverManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page Object Benchmarks
+ * Measures the per-call cost of the BasePage primitives against a static
+ * copy of the login page in headless Chrome. Every call is a WebDriver
+ * round trip, so scores are in the tens to thousands of ops/sec
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dheadless=true"})
+public class PageObjectBenchmark {
+    
+    private static final By USERNAME = By.id("username");
+    private static final By ERROR_MESSAGE = By.id("error-message");
+    private static final String SHORT_TEXT = "admin";
+    private static final String LONG_TEXT = "a".repeat(64);
+    
+    private StaticPageServer server;
+    private BenchmarkPage page;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new StaticPageServer();
+        WebDriver driver = DriverManager.getDriver();
+        driver.get(server.getUrl());
+        page = new BenchmarkPage(driver);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DriverManager.quitDriver();
+        server.close();
+    }
+    
+    /**
+     * Visibility wait on a cached element handle
+     */
+    @Benchmark
+    public WebElement waitForElementVisible() {
+        return page.visible(USERNAME);
+    }
+    
+    /**
+     * Visibility wait that has to find the element again
+     */
+    @Benchmark
+    public WebElement waitForElementVisibleUncached() {
+        page.resetCache();
+        return page.visible(USERNAME);
+    }
+    
+    /**
+     * Clear and type below the bulk-input threshold (key by key)
+     */
+    @Benchmark
+    public void clearAndTypeShort() {
+        page.type(USERNAME, SHORT_TEXT);
+    }
+    
+    /**
+     * Clear and type above the bulk-input threshold (one script call)
+     */
+    @Benchmark
+    public void clearAndTypeLong() {
+        page.type(USERNAME, LONG_TEXT);
+    }
+    
+    /**
+     * Display check on an element that is on the page
+     */
+    @Benchmark
+    public boolean isElementDisplayedPresent() {
+        return page.displayed(USERNAME);
+    }
+    
+    /**
+     * Display check on an element that is not on the page (bounded by the probe timeout)
+     */
+    @Benchmark
+    public boolean isElementDisplayedAbsent() {
+        return page.displayed(ERROR_MESSAGE);
+    }
+    
+    /**
+     * document.readyState check on a loaded page
+     */
+    @Benchmark
+    public void waitForPageLoad() {
+        page.pageLoad();
+    }
+}
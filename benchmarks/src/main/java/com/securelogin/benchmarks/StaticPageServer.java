@@ -0,0 +1,62 @@
+package com.securelogin.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+
+/**
+ * Static Page Server
+ * Serves the static copy of the login page from the classpath on a free
+ * localhost port, so benchmarks measure the page-object layer and the
+ * browser rather than the frontend dev server
+ * 
+ * @author Secure Login Testing Team
+ * @version 1.0
+ */
+public class StaticPageServer implements AutoCloseable {
+    
+    private static final String PAGE_RESOURCE = "/login-page.html";
+    
+    private final HttpServer server;
+    
+    /**
+     * Constructor starts the server on a random free port
+     * 
+     * @throws IOException if the page cannot be read or the server cannot start
+     */
+    public StaticPageServer() throws IOException {
+        byte[] page;
+        try (InputStream in = StaticPageServer.class.getResourceAsStream(PAGE_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing resource " + PAGE_RESOURCE);
+            }
+            page = in.readAllBytes();
+        }
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, page.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(page);
+            }
+        });
+        server.start();
+    }
+    
+    /**
+     * Gets the URL of the login page
+     * 
+     * @return Page URL
+     */
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}